@@ -41,7 +41,11 @@ public enum LocalizedStrings {
     Debug,
     DebugEmptyTiles,
     DebugNeighbours,
+    DebugProbabilities,
     DebugNew,
+    DebugSeed,
+    DebugSeedPrompt,
+    DebugOpening,
     DebugWindow,
     ExpertMode,
     Exit,
@@ -56,6 +60,7 @@ public enum LocalizedStrings {
     Marks,
     Mines,
     New,
+    NoGuess,
     ResetScores,
     OK,
     Seconds,
@@ -30,9 +30,12 @@ import java.io.File;
 import java.util.logging.Level;
 
 import javax.swing.JCheckBoxMenuItem;
+import javax.swing.JOptionPane;
 
 import controllers.BoardController;
+import core.GameSettings;
 import core.PreferencesManager;
+import engine.core.factories.AbstractFactory;
 import engine.core.factories.AbstractSignalFactory;
 import engine.core.navigation.MenuBuilder;
 import engine.core.system.AbstractApplication;
@@ -40,12 +43,18 @@ import engine.core.system.EngineProperties;
 import engine.core.system.EngineProperties.Property;
 import engine.utils.globalisation.Localization;
 import engine.utils.logging.Tracelog;
+import game.core.factories.ControllerFactory;
+import journal.GameJournal;
+import journal.SavedGame;
 import menu.AboutMenuItem;
 import menu.BeginnerModeMenuItem;
 import menu.CustomModeMenuItem;
 import menu.DebugEmptyTilesMenuItem;
 import menu.DebugGameMenuItem;
 import menu.DebugNeighboursMenuItem;
+import menu.DebugOpeningMenuItem;
+import menu.DebugProbabilitiesMenuItem;
+import menu.DebugSeedMenuItem;
 import menu.DebuggerWindowMenuItem;
 import menu.ExitMenuItem;
 import menu.ExpertModeMenuItem;
@@ -53,6 +62,7 @@ import menu.HighScoresMenuItem;
 import menu.IntermediateModeMenuItem;
 import menu.MarksMenuItem;
 import menu.NewGameMenuItem;
+import menu.NoGuessMenuItem;
 import resources.LocalizedStrings;
 
 /**
@@ -86,6 +96,21 @@ public final class MainApplication extends AbstractApplication {
                         break;
                     }
                 }
+                
+                // Get the seed used to generate boards, specified as -seed=<value>
+                for(String arg : args) {
+                    String seed = arg.trim();
+                    if(seed.toLowerCase().startsWith("-seed=")) {
+                        try {
+                            GameSettings.setSeeds(Long.parseLong(seed.substring("-seed=".length())));
+                        }
+                        catch(NumberFormatException exception) {
+                            Tracelog.log(Level.WARNING, true, "Invalid seed specified: " + seed);
+                        }
+                        break;
+                    }
+                }
+                
                 MainApplication.initialize(MainApplication.class, debugMode);
                 MainApplication.instance().setVisible(true);
             }
@@ -106,6 +131,7 @@ public final class MainApplication extends AbstractApplication {
         .addMenuItem(CustomModeMenuItem.class)
         .addSeparator()
         .addMenuItem(MarksMenuItem.class)
+        .addMenuItem(NoGuessMenuItem.class)
         .addSeparator()
         .addMenuItem(HighScoresMenuItem.class)
         .addSeparator()
@@ -119,9 +145,12 @@ public final class MainApplication extends AbstractApplication {
         MenuBuilder.start(getJMenuBar())
         .addMenu(Localization.instance().getLocalizedString(LocalizedStrings.Debug))
         .addMenuItem(DebugGameMenuItem.class)
+        .addMenuItem(DebugSeedMenuItem.class)
+        .addMenuItem(DebugOpeningMenuItem.class)
         .addSeparator()
         .addMenuItem(DebugNeighboursMenuItem.class)
         .addMenuItem(DebugEmptyTilesMenuItem.class)
+        .addMenuItem(DebugProbabilitiesMenuItem.class)
         .addSeparator()
         .addMenuItem(DebuggerWindowMenuItem.class);
     }
@@ -206,6 +235,63 @@ public final class MainApplication extends AbstractApplication {
         if(PreferencesManager.instance().getMarksEnabled()) {
             MenuBuilder.search(getJMenuBar(), MarksMenuItem.class).getComponent(JCheckBoxMenuItem.class).doClick();
         }
+        
+        if(PreferencesManager.instance().getNoGuessEnabled()) {
+            MenuBuilder.search(getJMenuBar(), NoGuessMenuItem.class).getComponent(JCheckBoxMenuItem.class).doClick();
+        }
+        
+        // If a game was left unfinished then offer to resume it
+        if(!isDebug()) {
+            resumeSavedGame();
+        }
+    }
+    
+    /**
+     * Prompts the user to resume the game that was saved by the game journal, if any. The saved game is deleted
+     * if the user does not want to resume it
+     */
+    private void resumeSavedGame() {
+        SavedGame savedGame = GameJournal.load();
+        if(savedGame == null) {
+            return;
+        }
+        
+        int result = JOptionPane.showConfirmDialog(
+            this,
+            "A game was left unfinished, would you like to resume it?",
+            "Resume Game",
+            JOptionPane.YES_NO_OPTION,
+            JOptionPane.QUESTION_MESSAGE
+        );
+        
+        if(result != JOptionPane.YES_OPTION) {
+            GameJournal.instance().discard();
+            return;
+        }
+        
+        // Start a new game with the dimensions of the saved game and select its mode within the menu
+        BoardController.GAME_SETTINGS = GameSettings.getGameSetting(savedGame.getRows(), savedGame.getColumns(), savedGame.getMines());
+        switch(BoardController.GAME_SETTINGS) {
+        case BEGINNER:
+            MenuBuilder.search(getJMenuBar(), BeginnerModeMenuItem.class).getComponent(JCheckBoxMenuItem.class).setSelected(true);
+            break;
+        case INTERMEDITE:
+            MenuBuilder.search(getJMenuBar(), IntermediateModeMenuItem.class).getComponent(JCheckBoxMenuItem.class).setSelected(true);
+            break;
+        case EXPERT:
+            MenuBuilder.search(getJMenuBar(), ExpertModeMenuItem.class).getComponent(JCheckBoxMenuItem.class).setSelected(true);
+            break;
+        default:
+            MenuBuilder.search(getJMenuBar(), CustomModeMenuItem.class).getComponent(JCheckBoxMenuItem.class).setSelected(true);
+            break;
+        }
+        MenuBuilder.search(getJMenuBar(), NewGameMenuItem.class).onExecute(null);
+        
+        // Replace the new game with the saved game
+        if(!AbstractFactory.getFactory(ControllerFactory.class).get(BoardController.class).resumeGame(savedGame)) {
+            Tracelog.log(Level.WARNING, true, "The saved game does not fit the board, it has been discarded");
+            GameJournal.instance().discard();
+        }
     }
 
     @Override protected void onBeforeEngineDataInitialized() {
@@ -223,6 +309,7 @@ public final class MainApplication extends AbstractApplication {
         PreferencesManager.instance().setGameDifficulty(BoardController.GAME_SETTINGS.IDENTIFIER);
         PreferencesManager.instance().setWindowPosition(getLocation());
         PreferencesManager.instance().save();
+        GameJournal.instance().close();
         
         super.dispose();
     }
@@ -0,0 +1,162 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package benchmark;
+
+import core.BoardEngine;
+import core.MineSampler;
+
+/**
+ * A benchmark of one of the hot paths of the board engine.
+ * 
+ * A benchmark is set up once for every board size, and then invoked many times. Every invocation is prepared
+ * first, outside of the measure, so that only the operation being benchmarked is timed. The layouts of the
+ * boards are seeded so that the results of two runs can be compared.
+ * 
+ * Invocations are timed in batches so that the cost of reading the clock does not weigh on operations that only
+ * take a few hundred nanoseconds. The invocations of a batch are all prepared before the batch is timed, so a
+ * benchmark whose invocations change the board needs a board for every invocation of a batch
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public abstract class Benchmark {
+
+    /**
+     * The maximum number of invocations of a batch, for benchmarks whose invocations can be repeated
+     */
+    public static final int MAX_BATCH_SIZE = 1024;
+    
+    /**
+     * The maximum number of boards of a batch, for benchmarks whose invocations change the board
+     */
+    private static final int MAX_BATCH_BOARDS = 16;
+    
+    /**
+     * The maximum number of tiles of all the boards of a batch, so that a batch of large boards fits in memory
+     */
+    private static final int MAX_BATCH_TILES = 1 << 22;
+    
+    /**
+     * The engine of the board being benchmarked
+     */
+    protected BoardEngine _engine;
+    
+    /**
+     * The engines of the boards of a batch, for benchmarks whose invocations change the board
+     */
+    protected BoardEngine[] _engines;
+    
+    /**
+     * The seed from which the seed of every board is derived
+     */
+    private long _seed;
+    
+    /**
+     * The number of boards that have been generated so far
+     */
+    private long _boards;
+    
+    /**
+     * Gets the name of this benchmark, as written in the results
+     * 
+     * @return The name of this benchmark
+     */
+    public abstract String getName();
+    
+    /**
+     * Sets up this benchmark for the specified board size
+     * 
+     * @param rows The number of rows of the board
+     * @param columns The number of columns of the board
+     * @param mines The number of mines of the board
+     * @param seed The seed from which the seed of every board is derived
+     */
+    public void setUp(int rows, int columns, int mines, long seed) {
+        _engine = new BoardEngine(rows, columns, mines);
+        _engine.setFirstMoveOpening(true);
+        _seed = seed;
+        _boards = 0;
+    }
+    
+    /**
+     * Sets up an engine for every invocation of a batch, for benchmarks whose invocations change the board.
+     * The first engine is the engine of this benchmark
+     * 
+     * @param rows The number of rows of the board
+     * @param columns The number of columns of the board
+     * @param mines The number of mines of the board
+     */
+    protected void setUpEngines(int rows, int columns, int mines) {
+        _engines = new BoardEngine[Math.max(1, Math.min(MAX_BATCH_BOARDS, MAX_BATCH_TILES / (rows * columns)))];
+        _engines[0] = _engine;
+        for(int i = 1; i < _engines.length; ++i) {
+            _engines[i] = new BoardEngine(rows, columns, mines);
+            _engines[i].setFirstMoveOpening(true);
+        }
+    }
+    
+    /**
+     * Gets the maximum number of invocations of this benchmark that can be prepared and then timed together
+     * 
+     * @return The maximum number of invocations of a batch
+     */
+    public int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+    
+    /**
+     * Prepares the specified invocation of the next batch of this benchmark, this is not measured
+     * 
+     * @param invocation The invocation within the batch, less than the maximum number of invocations of a batch
+     */
+    public void prepare(int invocation) {
+    }
+    
+    /**
+     * Runs the specified invocation of the batch of this benchmark that was prepared, this is what is measured
+     * 
+     * @param invocation The invocation within the batch, less than the maximum number of invocations of a batch
+     * 
+     * @return A value derived from the work done, so that the work cannot be optimized away
+     */
+    public abstract long run(int invocation);
+    
+    /**
+     * Starts a new game on the next seeded board and reveals the center of the board, which places the mines
+     */
+    protected void nextBoard() {
+        _engine.newGame(MineSampler.deriveSeed(_seed, _boards++));
+        _engine.reveal(getCenter());
+    }
+    
+    /**
+     * Gets the index of the tile at the center of the board
+     * 
+     * @return The index of the center tile
+     */
+    protected int getCenter() {
+        return _engine.getBoard().indexOf(_engine.getRows() / 2, _engine.getColumns() / 2);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,158 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The result of a benchmark for one board size, computed from the mean time of an invocation of every measured
+ * batch. The percentiles are therefore percentiles of the means of the batches, not of single invocations
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class BenchmarkResult {
+
+    /**
+     * The name of the benchmark
+     */
+    private final String _benchmark;
+    
+    /**
+     * The board size that was benchmarked
+     */
+    private final BoardSize _boardSize;
+    
+    /**
+     * The number of invocations of a measured batch
+     */
+    private final int _batch;
+    
+    /**
+     * The mean times of an invocation of the measured batches in nanoseconds, in ascending order
+     */
+    private final long[] _times;
+    
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param benchmark The name of the benchmark
+     * @param boardSize The board size that was benchmarked
+     * @param batch The number of invocations of a measured batch
+     * @param times The mean times of an invocation of the measured batches in nanoseconds
+     * @param count The number of measured batches
+     */
+    public BenchmarkResult(String benchmark, BoardSize boardSize, int batch, long[] times, int count) {
+        _benchmark = benchmark;
+        _boardSize = boardSize;
+        _batch = batch;
+        _times = Arrays.copyOf(times, count);
+        Arrays.sort(_times);
+    }
+    
+    /**
+     * Gets the number of measured batches
+     * 
+     * @return The number of measured batches
+     */
+    public int getSamples() {
+        return _times.length;
+    }
+    
+    /**
+     * Gets the mean time of an invocation
+     * 
+     * @return The mean time of an invocation in nanoseconds
+     */
+    public double getMean() {
+        return Arrays.stream(_times).average().orElse(0);
+    }
+    
+    /**
+     * Gets the specified percentile of the time of an invocation, using the nearest rank
+     * 
+     * @param percentile The percentile, between 0 and 1
+     * 
+     * @return The time of an invocation at the percentile in nanoseconds, or 0 if there are no measures
+     */
+    public long getPercentile(double percentile) {
+        if(_times.length == 0) {
+            return 0;
+        }
+        
+        int rank = (int)Math.ceil(percentile * _times.length);
+        return _times[Math.max(0, Math.min(_times.length - 1, rank - 1))];
+    }
+    
+    /**
+     * Gets the number of invocations per second
+     * 
+     * @return The number of invocations per second
+     */
+    public double getThroughput() {
+        double mean = getMean();
+        return mean > 0 ? 1e9 / mean : 0;
+    }
+    
+    /**
+     * Writes this result as a JSON object
+     * 
+     * @param builder The builder to write this result to
+     */
+    public void toJson(StringBuilder builder) {
+        builder.append(String.format(Locale.ROOT,
+            "{\"benchmark\":\"%s\",\"board\":\"%s\",\"rows\":%d,\"columns\":%d,\"mines\":%d,\"samples\":%d,\"batch\":%d,"
+            + "\"meanNs\":%.1f,\"p50Ns\":%d,\"p90Ns\":%d,\"p99Ns\":%d,\"maxNs\":%d,\"opsPerSecond\":%.1f}",
+            _benchmark,
+            _boardSize.name().toLowerCase(Locale.ROOT),
+            _boardSize.ROWS,
+            _boardSize.COLUMNS,
+            _boardSize.MINES,
+            getSamples(),
+            _batch,
+            getMean(),
+            getPercentile(0.50),
+            getPercentile(0.90),
+            getPercentile(0.99),
+            getPercentile(1.00),
+            getThroughput()
+        ));
+    }
+    
+    @Override public String toString() {
+        return String.format(Locale.ROOT, "%-12s %-14s %10d %6d %14.1f %12d %12d %12d %14.1f",
+            _benchmark,
+            _boardSize,
+            getSamples(),
+            _batch,
+            getMean(),
+            getPercentile(0.50),
+            getPercentile(0.99),
+            getPercentile(1.00),
+            getThroughput()
+        );
+    }
+}
\ No newline at end of file
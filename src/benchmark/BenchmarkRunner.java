@@ -0,0 +1,248 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The benchmark runner measures the hot paths of the board engine for every board size, and writes the results
+ * as JSON so that they can be compared between runs to track regressions.
+ * 
+ * Every benchmark is first warmed up so that the measures are not skewed by the warm up of the JVM, and is then
+ * measured for a fixed amount of time. The layouts of the boards are derived from the seed, which is the same
+ * for every run unless specified otherwise.
+ * 
+ * Every sample is the mean time of a batch of invocations. The size of the batch is calibrated after the warm up
+ * so that a batch takes at least a few microseconds, which keeps the cost of reading the clock out of the measures
+ * of the operations that are faster than the clock itself.
+ * 
+ * Usage: BenchmarkRunner [-benchmark=NAME] [-size=NAME] [-seed=N] [-warmup=MS] [-time=MS] [-output=FILE]
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * The maximum number of measured invocations of a benchmark for one board size
+     */
+    private static final int MAX_SAMPLES = 1000000;
+    
+    /**
+     * The minimum amount of time of a batch of invocations in nanoseconds
+     */
+    private static final long BATCH_TIME = 20000;
+    
+    /**
+     * The value derived from the work done by the benchmarks, so that the work cannot be optimized away
+     */
+    private static long _sink;
+    
+    /**
+     * Main entry point into the benchmark runner
+     * 
+     * @param args The arguments of the benchmark runner
+     */
+    public static void main(String[] args) {
+        BenchmarkType[] benchmarkTypes = BenchmarkType.values();
+        BoardSize[] boardSizes = BoardSize.values();
+        long seed = 1;
+        long warmup = 1000;
+        long time = 2000;
+        Path output = Paths.get("benchmark-results.json");
+        
+        for(String arg : args) {
+            String value = arg.trim();
+            String name = value.toLowerCase(Locale.ROOT);
+            try {
+                if(name.startsWith("-benchmark=")) {
+                    String benchmark = value.substring("-benchmark=".length());
+                    if(!benchmark.equalsIgnoreCase("all")) {
+                        BenchmarkType benchmarkType = BenchmarkType.fromName(benchmark);
+                        if(benchmarkType == null) {
+                            throw new IllegalArgumentException();
+                        }
+                        benchmarkTypes = new BenchmarkType[] { benchmarkType };
+                    }
+                }
+                else if(name.startsWith("-size=")) {
+                    String size = value.substring("-size=".length());
+                    if(!size.equalsIgnoreCase("all")) {
+                        BoardSize boardSize = BoardSize.fromName(size);
+                        if(boardSize == null) {
+                            throw new IllegalArgumentException();
+                        }
+                        boardSizes = new BoardSize[] { boardSize };
+                    }
+                }
+                else if(name.startsWith("-seed=")) {
+                    seed = Long.parseLong(value.substring("-seed=".length()));
+                }
+                else if(name.startsWith("-warmup=")) {
+                    warmup = Long.parseLong(value.substring("-warmup=".length()));
+                }
+                else if(name.startsWith("-time=")) {
+                    time = Long.parseLong(value.substring("-time=".length()));
+                }
+                else if(name.startsWith("-output=")) {
+                    output = Paths.get(value.substring("-output=".length()));
+                }
+                else {
+                    System.err.println("Unknown argument specified: " + value);
+                    return;
+                }
+            }
+            catch(IllegalArgumentException exception) {
+                System.err.println("Invalid argument specified: " + value);
+                return;
+            }
+        }
+        
+        System.out.println(String.format(Locale.ROOT, "Benchmarks, seed %d, warm up %d ms, measure %d ms", seed, warmup, time));
+        System.out.println(String.format(Locale.ROOT, "%-12s %-14s %10s %6s %14s %12s %12s %12s %14s", "Benchmark", "Board", "Samples", "Batch", "Mean ns", "p50 ns", "p99 ns", "Max ns", "Ops/s"));
+        
+        List<BenchmarkResult> results = new ArrayList();
+        for(BenchmarkType benchmarkType : benchmarkTypes) {
+            for(BoardSize boardSize : boardSizes) {
+                Benchmark benchmark = benchmarkType.create();
+                benchmark.setUp(boardSize.ROWS, boardSize.COLUMNS, boardSize.MINES, seed);
+                
+                warmUp(benchmark, warmup * 1000000L);
+                int batch = calibrate(benchmark);
+                BenchmarkResult result = measure(benchmark, boardSize, batch, time * 1000000L);
+                results.add(result);
+                System.out.println(result);
+            }
+        }
+        
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "{\"timestamp\":\"%s\",\"java\":\"%s\",\"seed\":%d,\"warmupMs\":%d,\"timeMs\":%d,\"results\":[",
+            Instant.now(),
+            System.getProperty("java.version"),
+            seed,
+            warmup,
+            time
+        ));
+        for(int i = 0; i < results.size(); ++i) {
+            if(i > 0) {
+                builder.append(',');
+            }
+            results.get(i).toJson(builder);
+        }
+        builder.append("]}");
+        
+        try {
+            Files.write(output, builder.toString().getBytes(StandardCharsets.UTF_8));
+            System.out.println("Results written to " + output.toAbsolutePath());
+        }
+        catch(IOException exception) {
+            System.err.println("Could not write the results to " + output + ": " + exception.getMessage());
+        }
+        
+        // Keep the work of the benchmarks observable
+        if(_sink == 42) {
+            System.out.println();
+        }
+    }
+    
+    /**
+     * Invokes the specified benchmark for the specified amount of time, without recording the measures
+     * 
+     * @param benchmark The benchmark
+     * @param duration The amount of time in nanoseconds
+     */
+    private static void warmUp(Benchmark benchmark, long duration) {
+        long end = System.nanoTime() + duration;
+        while(System.nanoTime() < end) {
+            benchmark.prepare(0);
+            _sink += benchmark.run(0);
+        }
+    }
+    
+    /**
+     * Gets the number of invocations of the specified benchmark to time together, so that a batch takes at least
+     * the minimum amount of time of a batch, without going over the maximum number of invocations of a batch
+     * 
+     * @param benchmark The benchmark
+     * 
+     * @return The number of invocations of a batch
+     */
+    private static int calibrate(Benchmark benchmark) {
+        int maxBatchSize = benchmark.getMaxBatchSize();
+        for(int i = 0; i < maxBatchSize; ++i) {
+            benchmark.prepare(i);
+        }
+        long start = System.nanoTime();
+        for(int i = 0; i < maxBatchSize; ++i) {
+            _sink += benchmark.run(i);
+        }
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        
+        return (int)Math.max(1, Math.min(maxBatchSize, (BATCH_TIME * maxBatchSize + elapsed - 1) / elapsed));
+    }
+    
+    /**
+     * Invokes the specified benchmark in batches for the specified amount of time, recording the mean time of an
+     * invocation of every batch. Only the invocations themselves are timed, the preparation of every invocation is not
+     * 
+     * @param benchmark The benchmark
+     * @param boardSize The board size that is benchmarked
+     * @param batch The number of invocations of a batch
+     * @param duration The amount of time in nanoseconds
+     * 
+     * @return The result of the benchmark
+     */
+    private static BenchmarkResult measure(Benchmark benchmark, BoardSize boardSize, int batch, long duration) {
+        long[] times = new long[1024];
+        int count = 0;
+        long end = System.nanoTime() + duration;
+        while(count < MAX_SAMPLES && System.nanoTime() < end) {
+            for(int i = 0; i < batch; ++i) {
+                benchmark.prepare(i);
+            }
+            long start = System.nanoTime();
+            for(int i = 0; i < batch; ++i) {
+                _sink += benchmark.run(i);
+            }
+            long elapsed = System.nanoTime() - start;
+            
+            if(count == times.length) {
+                times = Arrays.copyOf(times, count * 2);
+            }
+            times[count++] = elapsed / batch;
+        }
+        
+        return new BenchmarkResult(benchmark.getName(), boardSize, batch, times, count);
+    }
+}
\ No newline at end of file
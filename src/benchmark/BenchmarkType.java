@@ -0,0 +1,106 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package benchmark;
+
+import java.util.function.Supplier;
+
+/**
+ * The benchmarks of the hot paths of the board engine
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public enum BenchmarkType {
+
+    /**
+     * Benchmarks the generation of a board
+     */
+    GENERATION(GenerationBenchmark::new),
+    
+    /**
+     * Benchmarks the flood fill of the largest empty area of a board
+     */
+    FLOOD_FILL(FloodFillBenchmark::new),
+    
+    /**
+     * Benchmarks going through the neighbors of every tile of a board
+     */
+    NEIGHBORS(NeighborsBenchmark::new),
+    
+    /**
+     * Benchmarks a chord around a numeral whose mines have all been flagged
+     */
+    CHORD(ChordBenchmark::new),
+    
+    /**
+     * Benchmarks the last move of a game, which detects the win
+     */
+    WIN(WinBenchmark::new),
+    
+    /**
+     * Benchmarks the lookup of the tile of a listener, as done for every event of a tile
+     */
+    LOOKUP(ListenerLookupBenchmark::new);
+    
+    /**
+     * The supplier of the instances of the benchmark
+     */
+    private final Supplier<Benchmark> _supplier;
+    
+    /**
+     * Constructs a new instance of this enum type
+     *
+     * @param supplier The supplier of the instances of the benchmark
+     */
+    BenchmarkType(Supplier<Benchmark> supplier) {
+        _supplier = supplier;
+    }
+    
+    /**
+     * Creates a new instance of the benchmark
+     * 
+     * @return A new instance of the benchmark
+     */
+    public Benchmark create() {
+        return _supplier.get();
+    }
+    
+    /**
+     * Gets the benchmark with the specified name, ignoring the case of the name and the underscores
+     * 
+     * @param name The name of the benchmark
+     * 
+     * @return The benchmark with the specified name, or null if there is no such benchmark
+     */
+    public static BenchmarkType fromName(String name) {
+        for(BenchmarkType benchmarkType : values()) {
+            if(benchmarkType.name().replace("_", "").equalsIgnoreCase(name.replace("_", ""))) {
+                return benchmarkType;
+            }
+        }
+        
+        return null;
+    }
+}
\ No newline at end of file
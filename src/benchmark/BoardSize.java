@@ -0,0 +1,118 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package benchmark;
+
+import core.GameSettings;
+
+/**
+ * The sizes of the boards that are benchmarked, the sizes of the difficulties of the game followed by large
+ * custom grids that have about the same density of mines as the expert difficulty, and by large custom grids
+ * with few mines where the first move opens most of the board
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public enum BoardSize {
+
+    /**
+     * The size of the beginner difficulty
+     */
+    BEGINNER(GameSettings.BEGINNER.ROWS, GameSettings.BEGINNER.COLUMNS, GameSettings.BEGINNER.MINES),
+    
+    /**
+     * The size of the intermediate difficulty
+     */
+    INTERMEDIATE(GameSettings.INTERMEDITE.ROWS, GameSettings.INTERMEDITE.COLUMNS, GameSettings.INTERMEDITE.MINES),
+    
+    /**
+     * The size of the expert difficulty
+     */
+    EXPERT(GameSettings.EXPERT.ROWS, GameSettings.EXPERT.COLUMNS, GameSettings.EXPERT.MINES),
+    
+    /**
+     * A large custom grid
+     */
+    LARGE(100, 100, 2000),
+    
+    /**
+     * A huge custom grid
+     */
+    HUGE(500, 500, 50000),
+    
+    /**
+     * A large custom grid with few mines, where most moves open large areas
+     */
+    OPEN_LARGE(100, 100, 200),
+    
+    /**
+     * A giant custom grid with few mines, where most moves open large areas
+     */
+    OPEN_GIANT(1000, 1000, 10000);
+    
+    /**
+     * The number of rows of the board
+     */
+    public final int ROWS;
+    
+    /**
+     * The number of columns of the board
+     */
+    public final int COLUMNS;
+    
+    /**
+     * The number of mines of the board
+     */
+    public final int MINES;
+    
+    /**
+     * Constructs a new instance of this enum type
+     *
+     * @param rows The number of rows of the board
+     * @param columns The number of columns of the board
+     * @param mines The number of mines of the board
+     */
+    BoardSize(int rows, int columns, int mines) {
+        ROWS = rows;
+        COLUMNS = columns;
+        MINES = mines;
+    }
+    
+    /**
+     * Gets the board size with the specified name, ignoring the case of the name
+     * 
+     * @param name The name of the board size
+     * 
+     * @return The board size with the specified name, or null if there is no such board size
+     */
+    public static BoardSize fromName(String name) {
+        for(BoardSize boardSize : values()) {
+            if(boardSize.name().equalsIgnoreCase(name)) {
+                return boardSize;
+            }
+        }
+        
+        return null;
+    }
+}
\ No newline at end of file
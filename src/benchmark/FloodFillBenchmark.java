@@ -0,0 +1,77 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package benchmark;
+
+import core.BoardStore;
+
+/**
+ * Benchmarks the flood fill of the largest empty area of a board
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class FloodFillBenchmark extends Benchmark {
+
+    /**
+     * The tiles of the flood fill
+     */
+    private int[] _tiles;
+    
+    /**
+     * The tile from which the largest empty area is flood filled
+     */
+    private int _index;
+    
+    @Override public String getName() {
+        return "floodFill";
+    }
+    
+    @Override public void setUp(int rows, int columns, int mines, long seed) {
+        super.setUp(rows, columns, mines, seed);
+        nextBoard();
+        
+        // Find the empty tile whose flood fill is the largest, filling every empty area only once
+        BoardStore board = _engine.getBoard();
+        _tiles = new int[board.size()];
+        boolean[] filled = new boolean[board.size()];
+        int largest = 0;
+        for(int i = 0; i < board.size(); ++i) {
+            if(board.isEmpty(i) && !filled[i]) {
+                int count = _engine.floodFill(i, _tiles);
+                for(int j = 0; j < count; ++j) {
+                    filled[_tiles[j]] = true;
+                }
+                if(count > largest) {
+                    largest = count;
+                    _index = i;
+                }
+            }
+        }
+    }
+    
+    @Override public long run(int invocation) {
+        return _engine.floodFill(_index, _tiles);
+    }
+}
\ No newline at end of file
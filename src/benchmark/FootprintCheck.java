@@ -0,0 +1,167 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package benchmark;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import core.BoardStore;
+import models.TileModel;
+
+/**
+ * The footprint check measures the memory that is retained per tile by the state of the board, comparing the
+ * board store against the map of neighbor maps that the board controller used to hold.
+ * 
+ * The board store is measured with a fifth of its tiles mined and every mine flagged, about the density of the
+ * expert difficulty, so that the positions of the mines and of the flags are counted. The board controller still
+ * creates a tile model per tile, each with its button state and tile state entities, and indexes them through an
+ * array. Both are measured on their own, since they are held by either layout. The memory is measured as the heap
+ * in use after a collection, which is only an estimate, so the check should be run with a fixed heap and nothing
+ * else running, for example with -Xms2g -Xmx2g.
+ * 
+ * Usage: FootprintCheck [-rows=N] [-columns=N]
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class FootprintCheck {
+    
+    /**
+     * The positions of the neighbors held by every tile of the previous layout
+     */
+    private enum Position { UP, LEFT, RIGHT, DOWN }
+    
+    /**
+     * The layout being measured, kept reachable until it has been measured
+     */
+    private static Object _layout;
+    
+    /**
+     * Main entry point into the footprint check
+     * 
+     * @param args The arguments of the footprint check
+     */
+    public static void main(String[] args) {
+        int rows = 1000;
+        int columns = 1000;
+        for(String arg : args) {
+            String value = arg.trim();
+            try {
+                if(value.toLowerCase(Locale.ROOT).startsWith("-rows=")) {
+                    rows = Integer.parseInt(value.substring("-rows=".length()));
+                }
+                else if(value.toLowerCase(Locale.ROOT).startsWith("-columns=")) {
+                    columns = Integer.parseInt(value.substring("-columns=".length()));
+                }
+                else {
+                    System.err.println("Unknown argument specified: " + value);
+                    return;
+                }
+            }
+            catch(NumberFormatException exception) {
+                System.err.println("Invalid argument specified: " + value);
+                return;
+            }
+        }
+        
+        int size = rows * columns;
+        Object[] tiles = new Object[size];
+        for(int i = 0; i < size; ++i) {
+            tiles[i] = new Object();
+        }
+        
+        // The previous layout, a linked map from every tile to a map of its four neighbors
+        long before = usedMemory();
+        Map<Object, Map<Position, Object>> tileModels = new LinkedHashMap();
+        for(int row = 0; row < rows; ++row) {
+            for(int column = 0; column < columns; ++column) {
+                Map<Position, Object> neighbors = new HashMap();
+                neighbors.put(Position.UP, row == 0 ? null : tiles[(row - 1) * columns + column]);
+                neighbors.put(Position.LEFT, column == 0 ? null : tiles[row * columns + column - 1]);
+                neighbors.put(Position.RIGHT, column + 1 == columns ? null : tiles[row * columns + column + 1]);
+                neighbors.put(Position.DOWN, row + 1 == rows ? null : tiles[(row + 1) * columns + column]);
+                tileModels.put(tiles[row * columns + column], neighbors);
+            }
+        }
+        _layout = tileModels;
+        long previous = usedMemory() - before;
+        _layout = null;
+        tileModels = null;
+        
+        // The board store, with a fifth of its tiles mined and flagged
+        before = usedMemory();
+        BoardStore board = new BoardStore(rows, columns);
+        for(int i = 0; i < size; i += 5) {
+            board.setMine(i, true);
+            board.setFlagged(i, true);
+        }
+        board.computeNumerals();
+        _layout = board;
+        long current = usedMemory() - before;
+        
+        // The array of tile models that the board controller indexes into
+        before = usedMemory();
+        TileModel[] tileModelArray = new TileModel[size];
+        long array = usedMemory() - before;
+        
+        // The tile models themselves, with their entities
+        before = usedMemory();
+        for(int i = 0; i < size; ++i) {
+            tileModelArray[i] = new TileModel(board, i);
+        }
+        long models = usedMemory() - before;
+        _layout = null;
+        
+        System.out.println(String.format(Locale.ROOT, "Footprint of a %dx%d board, java %s", rows, columns, System.getProperty("java.version")));
+        System.out.println(String.format(Locale.ROOT, "%-22s %14s %12s", "Layout", "Bytes", "Bytes/tile"));
+        System.out.println(String.format(Locale.ROOT, "%-22s %14d %12.1f", "Map of neighbor maps", previous, previous / (double)size));
+        System.out.println(String.format(Locale.ROOT, "%-22s %14d %12.1f", "Board store", current, current / (double)size));
+        System.out.println(String.format(Locale.ROOT, "%-22s %14d %12.1f", "Tile model array", array, array / (double)size));
+        System.out.println(String.format(Locale.ROOT, "%-22s %14d %12.1f", "Tile models", models, models / (double)size));
+        
+        // Keep the tiles and the tile models reachable until the end so that they are not counted
+        if(tiles.length != size || tileModelArray.length != size) {
+            System.out.println();
+        }
+    }
+    
+    /**
+     * Gets the memory in use by the heap once it has been collected
+     * 
+     * @return The memory in use in bytes
+     */
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for(int i = 0; i < 5; ++i) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        
+        return used;
+    }
+}
\ No newline at end of file
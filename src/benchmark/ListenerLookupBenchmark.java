@@ -0,0 +1,85 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package benchmark;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Benchmarks the lookup of the tile of a listener, as done by the board controller for every event sent by
+ * a tile. The listeners are looked up in a seeded random order so that the lookups do not follow the layout
+ * of the map in memory
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class ListenerLookupBenchmark extends Benchmark {
+
+    /**
+     * The index of the tile of every listener
+     */
+    private final Map<Object, Integer> _listenerIndices = new IdentityHashMap();
+    
+    /**
+     * The listeners, in the order in which they are looked up
+     */
+    private Object[] _listeners;
+    
+    /**
+     * The next listener to look up
+     */
+    private int _next;
+    
+    @Override public String getName() {
+        return "lookup";
+    }
+    
+    @Override public void setUp(int rows, int columns, int mines, long seed) {
+        super.setUp(rows, columns, mines, seed);
+        
+        _listenerIndices.clear();
+        _listeners = new Object[rows * columns];
+        for(int i = 0; i < _listeners.length; ++i) {
+            _listeners[i] = new Object();
+            _listenerIndices.put(_listeners[i], i);
+        }
+        
+        Random random = new Random(seed);
+        for(int i = _listeners.length - 1; i > 0; --i) {
+            int j = random.nextInt(i + 1);
+            Object listener = _listeners[i];
+            _listeners[i] = _listeners[j];
+            _listeners[j] = listener;
+        }
+        _next = 0;
+    }
+    
+    @Override public long run(int invocation) {
+        Object listener = _listeners[_next];
+        _next = _next + 1 == _listeners.length ? 0 : _next + 1;
+        return _listenerIndices.get(listener);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package benchmark;
+
+import core.BoardStore;
+
+/**
+ * Benchmarks going through the neighbors of every tile of a board, counting the mines around every tile
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class NeighborsBenchmark extends Benchmark {
+
+    @Override public String getName() {
+        return "neighbors";
+    }
+    
+    @Override public void setUp(int rows, int columns, int mines, long seed) {
+        super.setUp(rows, columns, mines, seed);
+        nextBoard();
+    }
+    
+    @Override public long run(int invocation) {
+        BoardStore board = _engine.getBoard();
+        long total = 0;
+        for(int i = 0, size = board.size(); i < size; ++i) {
+            total += board.getAdjacentMineCount(i);
+        }
+        
+        return total;
+    }
+}
\ No newline at end of file
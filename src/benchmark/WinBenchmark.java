@@ -0,0 +1,83 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package benchmark;
+
+import core.BoardStore;
+
+/**
+ * Benchmarks the last move of a game, which detects the win and flags every mine of the board
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class WinBenchmark extends Benchmark {
+
+    /**
+     * The last tile to reveal on the board of every invocation of a batch
+     */
+    private int[] _indices;
+    
+    @Override public String getName() {
+        return "win";
+    }
+    
+    @Override public void setUp(int rows, int columns, int mines, long seed) {
+        super.setUp(rows, columns, mines, seed);
+        setUpEngines(rows, columns, mines);
+        _indices = new int[_engines.length];
+    }
+    
+    @Override public int getMaxBatchSize() {
+        return _engines.length;
+    }
+    
+    @Override public void prepare(int invocation) {
+        _engine = _engines[invocation];
+        
+        // Reveal every tile without a mine but the last one
+        do {
+            nextBoard();
+        } while(_engine.isGameOver());
+        
+        BoardStore board = _engine.getBoard();
+        int index = -1;
+        for(int i = board.size() - 1; i >= 0; --i) {
+            if(board.isCovered(i) && !board.hasMine(i)) {
+                if(index < 0) {
+                    index = i;
+                }
+                else {
+                    board.setCovered(i, false);
+                }
+            }
+        }
+        _indices[invocation] = index;
+    }
+    
+    @Override public long run(int invocation) {
+        _engines[invocation].reveal(_indices[invocation]);
+        return _engines[invocation].getBoard().getFlagCount();
+    }
+}
\ No newline at end of file
@@ -24,30 +24,39 @@
 
 package controllers;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.List;
+import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
-import java.util.stream.Collectors;
 
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 
-import core.EntityPosition;
+import core.BoardEngine;
+import core.BoardSolver;
+import core.BoardStore;
 import core.GameSettings;
+import core.IBoardListener;
+import core.NoGuessGenerator;
+import core.ProbabilityEngine;
 import engine.communication.internal.signal.ISignalListener;
 import engine.core.factories.AbstractFactory;
 import engine.core.mvc.controller.BaseController;
 import engine.core.system.AbstractApplication;
 import engine.utils.logging.Tracelog;
 import game.core.factories.ControllerFactory;
-import generated.DataLookup.BUTTON_STATE;
-import generated.DataLookup.TILE_STATE;
+import game.core.factories.ModelFactory;
+import journal.GameJournal;
+import journal.SavedGame;
 import models.TileModel;
+import models.TilesUpdatedEventArgs;
+import replay.Replay;
+import replay.ReplayRecorder;
 
 /**
  * This controller is responsible for the functionality related to the logical components of the board
@@ -55,7 +64,7 @@ import models.TileModel;
  * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
  *
  */
-public class BoardController extends BaseController {
+public class BoardController extends BaseController implements IBoardListener {
 
     /**
      * The default game settings
@@ -63,76 +72,316 @@ public class BoardController extends BaseController {
     public static GameSettings GAME_SETTINGS = GameSettings.BEGINNER;
     
     /**
-     * The list of neighbors logically associated to a specified controller
+     * The thread that searches for the boards that can be solved without guessing. A search can take a while,
+     * so it does not run on the game scheduler where it would hold up the game timer. Searches run one at a time,
+     * the thread goes away when there is nothing left to search, and it is a daemon so that it does not keep the
+     * application alive
      */
-    private final Map<TileModel, Map<EntityPosition, TileModel>> _tileModels = new LinkedHashMap();
+    private static final ExecutorService _noGuessSearcher = new ThreadPoolExecutor(0, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue(), runnable -> {
+        Thread thread = new Thread(runnable, "No Guess Search");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    /**
+     * The engine that holds the rules of the game for the board
+     */
+    private final BoardEngine _engine = new BoardEngine(GAME_SETTINGS.ROWS, GAME_SETTINGS.COLUMNS, GAME_SETTINGS.MINES);
+    
+    /**
+     * The board store that holds the logical state of every tile
+     */
+    private final BoardStore _board = _engine.getBoard();
+    
+    /**
+     * The tile models of the board, indexed by their position within the board store
+     */
+    private final TileModel[] _tileModels = new TileModel[_board.size()];
+    
+    /**
+     * The number of tile models that have been added to the board
+     */
+    private int _tileModelsCount;
+    
+    /**
+     * The index of each tile within the board store, keyed by the identity of the listener of the tile
+     */
+    private final Map<ISignalListener, Integer> _listenerIndices = new IdentityHashMap();
+    
+    /**
+     * The indices of the tiles of the last flood fill that was highlighted
+     */
+    private final int[] _floodFillTiles = new int[_board.size()];
+    
+    /**
+     * The listener shared by every tile model, or null if every tile model has its own listener
+     */
+    private ISignalListener _sharedListener;
+    
+    /**
+     * The solver that holds what is certainly known about the board
+     */
+    private final BoardSolver _solver;
+    
+    /**
+     * The recorder of the replay of the game being played
+     */
+    private final ReplayRecorder _replayRecorder = new ReplayRecorder();
+    
+    /**
+     * The probability engine of the board, created the first time the probabilities are shown
+     */
+    private ProbabilityEngine _probabilityEngine;
+    
+    /**
+     * The probability of every tile of the board having a mine
+     */
+    private double[] _probabilities;
+    
+    /**
+     * The index of every tile of the board, published when the probabilities change
+     */
+    private int[] _probabilityTiles;
+    
+    /**
+     * Flag indicating if the probabilities of the tiles are being shown
+     */
+    private boolean _isShowingProbabilities;
+    
+    /**
+     * The generator of the boards that can be solved without guessing, created the first time it is needed
+     */
+    private NoGuessGenerator _noGuessGenerator;
+    
+    /**
+     * The cancellation flag of the search for a board that can be solved without guessing, or null if there is
+     * no search. Every search has its own flag, so that cancelling a search can never be undone by the next one
+     */
+    private AtomicBoolean _noGuessSearch;
+    
+    /**
+     * Flag indicating if the board of the first move is being searched for, the board ignores the moves
+     * of the player until it has been found
+     */
+    private boolean _isSearching;
+    
+    /**
+     * Constructs a new instance of this class type
+     */
+    public BoardController() {
+        
+        // The solver listens to the engine before this controller does, so that it is up to date with
+        // the tiles of a move by the time this controller is told about them
+        _solver = new BoardSolver(_engine);
+        _engine.addListener(this);
+    }
 
     /**
-     * Adds the specified tile model to the list of available tiles
+     * Creates a tile model for the next available tile of the board
+     * 
+     * Note: Tiles are expected to be added in row-major order
      * 
-     * @param tileModel The tile model to add
+     * @param listener The listener of the tile model
+     * 
+     * @return The tile model that was created, or null if the board is already full
      */
-    public void addTileModel(TileModel tileModel) {
-        if(_tileModels.putIfAbsent(tileModel, null) != null) {
-            Tracelog.log(Level.SEVERE, true, "Attempting to add a tile model to the tile models list when it has already been added");
+    public TileModel addTileModel(ISignalListener listener) {
+        if(_tileModelsCount >= _tileModels.length) {
+            Tracelog.log(Level.SEVERE, true, "Attempting to add a tile model when all the tiles of the board have already been added");
+            return null;
         }
+        
+        TileModel tileModel = AbstractFactory.getFactory(ModelFactory.class).add(new TileModel(_board, _tileModelsCount, listener), false);
+        _listenerIndices.put(listener, _tileModelsCount);
+        _tileModels[_tileModelsCount++] = tileModel;
+        
+        return tileModel;
     }
 
     /**
-     * Logically attaches the list of tiles together by sub-dividing the list of tiles.
+     * Creates a tile model for every remaining tile of the board, all of them sharing the same listener.
+     * 
+     * Note: Events about these tiles are raised by passing in the tile model itself as the listener, since
+     *       the listener alone cannot tell which tile an event is about
+     * 
+     * @param listener The listener of every tile model
      */
-    public void generateLogicalTileLinks() {
-
-        // Set the counter of the bombs based on the currently set game settings
-        ControllerFactory.getFactory(ControllerFactory.class).get(BombsCounterController.class).setCounter(GAME_SETTINGS.MINES);
+    public void addTileModels(ISignalListener listener) {
         
-        // Get the array representation of our tile models.
-        // Note: This is done because it is easier to get a subset of an array
-        //       and because the neighbor data structure tracks the insertion 
-        //       order at runtime which is what is important here.
-        TileModel[] tiles = _tileModels.keySet().toArray(new TileModel[0]);
-
-        // For every row that exists within our setup model
-        for(int i = 0, rows = GAME_SETTINGS.getDimensions().height, columns = GAME_SETTINGS.getDimensions().width; i < rows; ++i) {
-
-            // Link the tile rows together
-            linkTiles(
-                // Previous row
-                i - 1 >= 0 ? Arrays.copyOfRange(tiles, (i - 1) * columns, ((i - 1) * columns) + columns) : null,
-                // Current Row
-                Arrays.copyOfRange(tiles, i * columns, (i * columns) + columns),
-                // Next Row
-                i + 1 >= 0 ? Arrays.copyOfRange(tiles, (i + 1) * columns, ((i + 1) * columns) + columns) : null
+        // The tile models are not registered within the model factory, the factory verifies that a model is not
+        // already registered by going through every model of the same type, which grows with the square of the
+        // number of tiles. The tile models are only ever reached through this controller
+        while(_tileModelsCount < _tileModels.length) {
+            _tileModels[_tileModelsCount] = new TileModel(_board, _tileModelsCount, listener);
+            ++_tileModelsCount;
+        }
+        
+        _sharedListener = listener;
+    }
+    
+    /**
+     * Gets the tile model at the specified index
+     * 
+     * @param index The index of the tile
+     * 
+     * @return The tile model at the specified index
+     */
+    public TileModel getTileModel(int index) {
+        return _tileModels[index];
+    }
+    
+    /**
+     * Gets the engine that holds the rules of the game for the board
+     * 
+     * @return The board engine
+     */
+    public BoardEngine getEngine() {
+        return _engine;
+    }
+    
+    @Override public void tilesUpdated(BoardEngine engine, int[] indices, int count) {
+        
+        // A move changes the probabilities of the whole board, so the whole board is published instead
+        if(_isShowingProbabilities) {
+            updateProbabilities();
+        }
+        else {
+            publishTiles(indices, count);
+        }
+    }
+    
+    /**
+     * Publishes the specified tiles
+     * 
+     * @param indices The indices of the tiles
+     * @param count The number of valid entries within the indices
+     */
+    private void publishTiles(int[] indices, int count) {
+        
+        // When every tile model shares the same listener, that listener is told about all the tiles at once,
+        // otherwise each tile model that has been updated notifies its own listener
+        if(_sharedListener != null) {
+            _sharedListener.sendSignalEvent(new TilesUpdatedEventArgs(_board, indices, count));
+        }
+        else {
+            for(int i = 0; i < count; ++i) {
+                _tileModels[indices[i]].doneUpdating();
+            }
+        }
+    }
+    
+    @Override public void statusChanged(BoardEngine engine, BoardEngine.Status status) {
+        GameStateController gameStateController = AbstractFactory.getFactory(ControllerFactory.class).get(GameStateController.class);
+        GameTimerController gameTimerController = AbstractFactory.getFactory(ControllerFactory.class).get(GameTimerController.class);
+        
+        switch(status) {
+        case LOST:
+            // Set the game state as lost and stop the timer
+            gameStateController.setGameLost();
+            gameTimerController.stopGameTimer();
+            finishGame();
+            break;
+        case WON:
+            gameTimerController.stopGameTimer();
+            finishGame();
+            
+            // Every mine is now flagged, update the bombs counter to reflect this
+            AbstractFactory.getFactory(ControllerFactory.class).get(BombsCounterController.class).setFlagsCount(_board.getFlagCount());
+            
+            // Set the game as won
+            gameStateController.setGameWon();
+            
+            // Get the timer result of the current game, the final board has already been published
+            // at this point so it is shown behind the prompt
+            int timerResult = gameTimerController.getGameTimer();
+            if(GAME_SETTINGS != GameSettings.CUSTOM && GAME_SETTINGS.getTime() > timerResult) {
+                
+                // Prompt the user to enter their name
+                String name = JOptionPane.showInputDialog(
+                    AbstractApplication.instance(), 
+                    "Congratulations, you have achieved a new highscore. Please enter your name", 
+                    "Highscore",
+                    JOptionPane.WARNING_MESSAGE
+                );
+                
+                // Validate the name that was entered
+                if(name == null || name.trim().isEmpty()) {
+                    name = "Anonymous";
+                }
+                else {
+                    name = name.trim();
+                }
+                
+                // Set the highscore with the name provided and the new timer
+                GAME_SETTINGS.setHighScore(name, timerResult);
+            }
+            break;
+        default:
+            break;
+        }
+    }
+    
+    /**
+     * Records the specified event of the game being played in its replay and in the game journal
+     * 
+     * @param type The type of the event
+     * @param tile The tile of the event
+     */
+    private void record(int type, int tile) {
+        _replayRecorder.record(type, tile);
+        GameJournal.instance().record(type, tile);
+    }
+    
+    /**
+     * Ends the replay and the journal of the game being played with the current state of the game
+     */
+    private void finishGame() {
+        GameJournal.instance().finish();
+        if(_replayRecorder.isRecording()) {
+            _replayRecorder.finish(
+                _engine.getStatus(),
+                AbstractFactory.getFactory(ControllerFactory.class).get(GameTimerController.class).getGameTimer(),
+                _board.getRevealedCount(),
+                _board.getFlagCount()
             );
         }
+    }
+    
+    /**
+     * Initializes the board once all of its tiles have been added
+     */
+    public void initializeBoard() {
+
+        if(_tileModelsCount != _tileModels.length) {
+            Tracelog.log(Level.SEVERE, true, "Initializing the board when only " + _tileModelsCount + " of " + _tileModels.length + " tiles have been added");
+        }
+        
+        // Set the counter of the bombs based on the currently set game settings
+        ControllerFactory.getFactory(ControllerFactory.class).get(BombsCounterController.class).setCounter(GAME_SETTINGS.MINES);
         
         // Generate the board entries
         generateBoardEntries();
     }
-
+    
     /**
-     * Links together the passed in rows to form a central node with a 1-level deep neighbouring node set
-     *  
-     * @param topRow The top row
-     * @param neutralRow the neutral row
-     * @param bottomRow The bottom row
+     * Gets the tile model associated to the specified listener
+     * 
+     * @param listener The listener, either a tile model or the listener that a tile model was created with
+     * 
+     * @return The tile model associated to the listener, or null if the listener is not part of this board
      */
-    private void linkTiles(TileModel[] topRow, TileModel[] neutralRow, TileModel[] bottomRow) {
-        for(int i = 0, columns = GAME_SETTINGS.getDimensions().width; i < columns; ++i) {
-
-            // Represents the structural view of a particular tile
-            Map<EntityPosition, TileModel> neighbors = new HashMap<EntityPosition, TileModel>();
-
-            // Populate the neighbors structure with the movement elements
-            // Note: Diagonals can be fetched using these primitives
-            neighbors.put(EntityPosition.UP, topRow == null ? null : topRow[i]);
-            neighbors.put(EntityPosition.LEFT, i - 1 < 0 ? null : neutralRow[i - 1]);
-            neighbors.put(EntityPosition.RIGHT, i + 1 >= columns ? null : neutralRow[i + 1]);
-            neighbors.put(EntityPosition.DOWN, bottomRow == null ? null : bottomRow[i]);
-
-            // Assign the mappings where we reference the neutral-neutral tile as the key
-            _tileModels.put(neutralRow[i], neighbors);
+    private TileModel getTileModel(ISignalListener listener) {
+        if(listener instanceof TileModel) {
+            return (TileModel) listener;
+        }
+        
+        Integer index = _listenerIndices.get(listener);
+        if(index == null) {
+            Tracelog.log(Level.SEVERE, true, "Could not find the tile model associated to the specified listener");
+            return null;
         }
+        
+        return _tileModels[index];
     }
 
     /**
@@ -144,11 +393,15 @@ public class BoardController extends BaseController {
     public void showTileNeighborsDebug(ISignalListener listener, boolean highlighted) {
 
         // Get the context of the listener
-        TileModel tileModel = _tileModels.keySet().stream().filter(z -> z.isModelListening(listener)).findFirst().get();
+        TileModel tileModel = getTileModel(listener);
+        if(tileModel == null) {
+            return;
+        }
 
         // Go through the list of tile model neighbors
-        for(TileModel tile : getAllNeighbors(tileModel)) {
-            tile.setHighlighted(highlighted);
+        int index = tileModel.getIndex();
+        for(int offset : _board.getNeighborOffsets(index)) {
+            _tileModels[index + offset].setHighlighted(highlighted);
         }
     }
 
@@ -160,147 +413,73 @@ public class BoardController extends BaseController {
      */
     public void showEmptyTileNeighborsDebug(ISignalListener listener, boolean highlighted) {
         // Get the context of the listener
-        TileModel tileModel = _tileModels.keySet().stream().filter(z -> z.isModelListening(listener)).findFirst().get();
+        TileModel tileModel = getTileModel(listener);
 
         // If there is a tile model found and it does not have an entity associated to its tile
         // then get all the tiles adjacent to this one and set the highlighted flag accordingly
         if(tileModel != null && tileModel.getTileStateEntity().isEmpty()) {
-            getAdjacentTilesFloodFill(tileModel).stream().forEach(z -> z.setHighlighted(highlighted));
+            for(int i = 0, count = _engine.floodFill(tileModel.getIndex(), _floodFillTiles); i < count; ++i) {
+                _tileModels[_floodFillTiles[i]].setHighlighted(highlighted);
+            }
         }
     }
 
     /**
-     * Gets adjacent tiles in a flood fill fashion w.r.t the specified initial tile model
-     * 
-     * @param initialTileModel The initial tile model to perform the flood fill on
+     * Shows the probability of every covered tile having a mine, this is used for debugging purposes
      * 
-     * @return The list of tile models included in the flood fill
+     * @param showing If the probabilities should be shown or not
      */
-    private List<TileModel> getAdjacentTilesFloodFill(TileModel initialTileModel) {
+    public void showProbabilitiesDebug(boolean showing) {
+        _isShowingProbabilities = showing;
         
-        List<TileModel> completedTiles = new ArrayList();
-        List<TileModel> emptyTiles = new ArrayList();
-        emptyTiles.add(initialTileModel);
-
-        for(int i = 0;  i < emptyTiles.size(); ++i) {
-            TileModel candidateTile = emptyTiles.get(i);
-            if(candidateTile.getTileStateEntity().isEmpty()) {
-                List<TileModel> neighbours = getAllNeighbors(candidateTile).stream().filter(z -> !emptyTiles.contains(z) && !completedTiles.contains(z)).collect(Collectors.toList());
-                for(TileModel neighbour : neighbours) {
-                    if(neighbour.getTileStateEntity().isEmpty()) {
-                        emptyTiles.add(neighbour);
-                    }
-                    else if(neighbour.getTileStateEntity().getMineNumeralEntity().hasActiveData()) {
-                        completedTiles.add(neighbour);
-                    }
-                }
-            }
-            
+        // There is nothing to hide if the probabilities have never been shown
+        if(showing || _probabilityEngine != null) {
+            updateProbabilities();
         }
-        completedTiles.addAll(emptyTiles);
-        return completedTiles;
     }
-
+    
     /**
-     * Gets all the neighbors associated to the particular model
-     * 
-     * @param tileModel The tile model to use as a search for neighbors around it
-     * 
-     * @return The list of tile models that neighbor the passed in tile model
+     * Computes the probabilities of the tiles if they are being shown, and publishes the whole board
      */
-    private List<TileModel> getAllNeighbors(TileModel tileModel) {
-
-        // Get the list of neighbors associated to our tile model
-        Map<EntityPosition, TileModel> tileModelNeighbors = _tileModels.get(tileModel);
-
-        // This collection holds the list of all the neighbors
-        List<TileModel> allNeighbors = new ArrayList();
-
-        // Go through every entry set in our structure
-        for(Map.Entry<EntityPosition, TileModel> entry : tileModelNeighbors.entrySet()) {
-
-            // Get the tile model
-            TileModel tile = entry.getValue();
-            if(tile == null) {
-                continue;
-            }
-
-            // Add our tile to the list
-            allNeighbors.add(tile);
-
-            // To get the diagonals, make sure that if we are on the top or bottom tile
-            // that we fetch their respective tiles, and provided that they are valid
-            // add them to our list.
-            switch(entry.getKey()) {
-            case UP:
-            case DOWN:
-                TileModel left = _tileModels.get(tile).get(EntityPosition.LEFT);
-                if(left != null) {
-                    allNeighbors.add(left);
-                }
-
-                TileModel right = _tileModels.get(tile).get(EntityPosition.RIGHT);
-                if(right != null) {
-                    allNeighbors.add(right);
-                }
-                break;
-            case LEFT:
-                break;
-            case RIGHT:
-                break;
-            default:
-                break;
+    private void updateProbabilities() {
+        if(_probabilityEngine == null) {
+            _probabilityEngine = new ProbabilityEngine(_engine, _solver);
+            _probabilities = new double[_board.size()];
+            _probabilityTiles = new int[_board.size()];
+            for(int i = 0; i < _probabilityTiles.length; ++i) {
+                _probabilityTiles[i] = i;
             }
         }
-
-        // return the list of neighbors
-        return allNeighbors;
-    }
-
-
-    /**
-     * Sets a mine onto the specified listeners model
-     * 
-     * @param listener The listener from where the event took place
-     */
-    public void setMine(ISignalListener listener) {
-
-        TileModel tileModel = null;
         
-        if(listener instanceof TileModel) {
-            tileModel = (TileModel) listener;
+        // The probabilities are meaningless before the first move, when the mines have not been placed yet
+        if(_isShowingProbabilities && _board.getRevealedCount() > 0 && !_engine.isGameOver()) {
+            _probabilityEngine.compute(_probabilities);
         }
         else {
-            tileModel = _tileModels.keySet().parallelStream().filter(z -> z.isModelListening(listener)).findFirst().get();    
+            Arrays.fill(_probabilities, Double.NaN);
         }
         
-        if(tileModel.getTileStateEntity().hasMine()) {
-            tileModel.getTileStateEntity().setTileState(null);
-        }
-        else {
-            tileModel.getTileStateEntity().setTileState(TILE_STATE.BOMB_REVEALED);            
+        for(int i = 0; i < _probabilities.length; ++i) {
+            _tileModels[i].setProbability(_probabilities[i]);
         }
         
-        tileModel.doneUpdating();
-
-        // Update the surrounding neighbors to reflect the mine change  
-        getAllNeighbors(tileModel).stream().forEach(z -> generateTileNumeral(z));
+        publishTiles(_probabilityTiles, _probabilityTiles.length);
     }
-    
+
     /**
-     * Generates the numeral of a specified tile model
+     * Sets a mine onto the specified listeners model
      * 
-     * @param tileModel The tile model to generate the numeral on
+     * @param listener The listener from where the event took place
      */
-    private void generateTileNumeral(TileModel tileModel) {
-        int count = (int)getAllNeighbors(tileModel).stream().filter(z -> z.getTileStateEntity().hasMine()).count();
-        if(count > 0) {
-            tileModel.getTileStateEntity().getMineNumeralEntity().setNumeral(count);
-        }
-        else {
-            tileModel.getTileStateEntity().getMineNumeralEntity().setNumeral(0);
+    public void setMine(ISignalListener listener) {
+
+        TileModel tileModel = getTileModel(listener);
+        if(tileModel == null || _isSearching) {
+            return;
         }
-        tileModel.doneUpdating();
+        
+        record(Replay.MINE, tileModel.getIndex());
+        _engine.setMine(tileModel.getIndex(), !_board.hasMine(tileModel.getIndex()));
     }
 
     /**
@@ -313,157 +492,130 @@ public class BoardController extends BaseController {
 
         // If the game is over then do not proceed any further
         GameStateController gameStateController = AbstractFactory.getFactory(ControllerFactory.class).get(GameStateController.class);
-        if(gameStateController.isGameOver()) {
+        if(gameStateController.isGameOver() || _engine.isGameOver() || _isSearching) {
             return;
         }
         
         // Get the tile model of the listener specified
-        TileModel tileModel = listener instanceof TileModel 
-                ? (TileModel)listener
-                : _tileModels.keySet().stream().filter(z -> z.isModelListening(listener)).findFirst().get();
-                
-        performMove(tileModel, performingMove);
+        TileModel tileModel = getTileModel(listener);
+        if(tileModel == null) {
+            return;
+        }
+        
+        // Only tiles that are still covered and that are not flagged can be selected
+        int index = tileModel.getIndex();
+        if(!_engine.isCovered(index) || _engine.isFlagged(index)) {
+            return;
+        }
+        
+        if(!performingMove) {
+            // Set the game state as running, this will show the :O face
+            gameStateController.setMakingMove();
+            return;
+        }
+        
+        // If no tile has been revealed yet then this is the first move, which starts the timer of the game and
+        // generates the board with the options currently set
+        if(_board.getRevealedCount() == 0) {
+            _engine.setFirstMoveOpening(GAME_SETTINGS.isFirstMoveOpening());
+            _engine.setNoGuess(GAME_SETTINGS.isNoGuess());
+            record(Replay.OPTIONS, (_engine.isFirstMoveOpening() ? Replay.OPTION_OPENING : 0) | (_engine.isNoGuess() ? Replay.OPTION_NO_GUESS : 0));
+            
+            // Searching for a board that can be solved without guessing can take a while, so it is done off the
+            // event dispatch thread and the move is performed once the board has been found
+            if(_engine.isNoGuess() && !_engine.isGenerated()) {
+                searchNoGuessBoard(index);
+                return;
+            }
+            
+            AbstractFactory.getFactory(ControllerFactory.class).get(GameTimerController.class).startGameTimer();
+        }
+        
+        reveal(index);
     }
     
     /**
-     * Performs a move of the specified tile
+     * Reveals the specified tile, the engine reports the tiles that were uncovered and the end of the game if any
      * 
-     * @param tileModel The tile associated to the move being performed
-     * @param performingMove TRUE if the move is being finalized, FALSE if the move is in between
+     * @param index The index of the tile
      */
-    private void performMove(TileModel tileModel, boolean performingMove) {
+    private void reveal(int index) {
         
-        GameStateController gameStateController = AbstractFactory.getFactory(ControllerFactory.class).get(GameStateController.class);
+        // Moves are recorded before being performed so that a move that ends the game precedes the end of its replay
+        record(Replay.REVEAL, index);
+        if(_engine.reveal(index) && !_engine.isGameOver()) {
+            AbstractFactory.getFactory(ControllerFactory.class).get(GameStateController.class).setGameRunning();
+        }
+    }
+    
+    /**
+     * Searches for a board that can be solved from the specified first move without guessing on the thread of
+     * the searches, and performs the first move on the event dispatch thread once the board has been found
+     * 
+     * @param index The index of the tile of the first move
+     */
+    private void searchNoGuessBoard(int index) {
+        if(_noGuessGenerator == null) {
+            _noGuessGenerator = new NoGuessGenerator(_engine.getRows(), _engine.getColumns(), _engine.getMines());
+        }
         
-        // If the move is actually being performed, then and only then should we start the actual game timer and make
-        // sure that the tile does not have a mine for the first move.
-        if(performingMove) {
-            // Check to see if there are any buttons that have already been revealed, if not then this is considered
-            // to be the first move.  The first move is always a valid move, so make sure that if there is a mine, that
-            // it is placed at a different location
-            if(_tileModels.keySet().parallelStream().filter(z -> !z.getButtonStateEntity().isEnabled()).count() == 0) {
-                if(tileModel.getButtonStateEntity().isMark() || tileModel.getButtonStateEntity().isEmpty()) {
-                    // Set the timer of the game
-                    AbstractFactory.getFactory(ControllerFactory.class).get(GameTimerController.class).startGameTimer();
-                    
-                    // If there is a mine on the selected tile then have it removed
-                    if(tileModel.getTileStateEntity().hasMine()) {
-                        // Toggle off the mine
-                        setMine(tileModel);
-                        
-                        // Pick a new tile to have set as the mine
-                        TileModel newTile = _tileModels.keySet().parallelStream().filter(z -> z != tileModel && z.getButtonStateEntity().isEnabled() && !z.getTileStateEntity().hasMine()).findFirst().get();
-                        setMine(newTile);
-                    }
-                }
+        _isSearching = true;
+        final AtomicBoolean search = new AtomicBoolean();
+        _noGuessSearch = search;
+        final long seed = _engine.getSeed();
+        final NoGuessGenerator generator = _noGuessGenerator;
+        _noGuessSearcher.execute(() -> {
+            if(search.get()) {
+                return;
             }
+            
+            long boardSeed = generator.findSeed(seed, index, search);
+            int attempts = generator.getAttempts();
+            boolean isFound = generator.isFound();
+            SwingUtilities.invokeLater(() -> noGuessBoardFound(search, index, boardSeed, attempts, isFound));
+        });
+    }
+    
+    /**
+     * Generates the board that was found by a search and performs the first move, unless the search has since
+     * been abandoned
+     * 
+     * @param search The cancellation flag of the search
+     * @param index The index of the tile of the first move
+     * @param boardSeed The seed of the board that was found
+     * @param attempts The number of candidate boards that were looked at
+     * @param isFound TRUE if the board can be solved without guessing, FALSE if the search gave up
+     */
+    private void noGuessBoardFound(AtomicBoolean search, int index, long boardSeed, int attempts, boolean isFound) {
+        if(search.get() || _engine.isGenerated()) {
+            return;
         }
         
-        // If the tile has a valid button state and it is empty (no flag, etc) then remove the button state
-        // and update the tile with the surrounding neighbor tiles
-        if(tileModel.getButtonStateEntity().isEnabled() && (tileModel.getButtonStateEntity().isEmpty() || tileModel.getButtonStateEntity().isMark())) {
-            
-            if(performingMove) {
-                
-                // Remove the button
-                tileModel.getButtonStateEntity().setIsButtonEnabled(false);
-                
-                // Indicate that the model update has been finished
-                tileModel.doneUpdating();
-
-                // Set the game state as running
-                if(!gameStateController.isGameOver()) {
-                    gameStateController.setGameRunning();
-                }
-                
-                // If the tile selected is considered empty then get the floodfill
-                // of adjacent cells and have them discovered
-                if(tileModel.getTileStateEntity().isEmpty()) {
-                         
-                    // Go through the list of adjacent tiles in a flood-fill fashion and 
-                    // provided that the tiles are empty, uncover the tile
-                    for(TileModel adjacentTile : getAdjacentTilesFloodFill(tileModel)) {
-                        if(adjacentTile.getButtonStateEntity().isEmpty()) {
-                            adjacentTile.getButtonStateEntity().setIsButtonEnabled(false);
-                            adjacentTile.doneUpdating();
-                        }
-                    }
-                }
-                
-                // If the tile selected has a mine, then display it 
-                if(tileModel.getTileStateEntity().hasMine()) {
-                    
-                    // Set the tile selected as the mine clicked
-                    tileModel.getTileStateEntity().setTileState(TILE_STATE.BOMB_CLICKED);
-                    
-                    // Get all the mines that are on the board and reveal them
-                    List<TileModel> tilesWithMine = _tileModels.keySet().parallelStream().filter(z -> z.getTileStateEntity().hasMine() && !z.equals(tileModel)).collect(Collectors.toList());
-                    for(TileModel tileWithMine : tilesWithMine) {
-                        
-                        // If the tile is set as flagged then leave it as flagged. We do not reveal bombs that
-                        // have already been flagged
-                        if(tileWithMine.getButtonStateEntity().isFlagged()) {
-                            continue;
-                        }
-                        
-                        tileWithMine.getButtonStateEntity().setIsButtonEnabled(false);
-                        tileWithMine.doneUpdating();
-                    }
-                    
-                    // Get all the tiles that have flags that do not have mines, they should be marked as 'misflagged'
-                    List<TileModel> misflaggedTiles = _tileModels.keySet().parallelStream().filter(z -> !z.getTileStateEntity().hasMine() && z.getButtonStateEntity().isFlagged()).collect(Collectors.toList());
-                    for(TileModel misFlaggedTile : misflaggedTiles) {
-                        misFlaggedTile.getButtonStateEntity().setIsButtonEnabled(false);
-                        misFlaggedTile.getTileStateEntity().setTileState(TILE_STATE.BOMB_MISFLAGGED);
-                        misFlaggedTile.doneUpdating();
-                    }
-                    
-                    // Set the game state as lost and stop the timer
-                    gameStateController.setGameLost();
-                    AbstractFactory.getFactory(ControllerFactory.class).get(GameTimerController.class).stopGameTimer();
-                }
-                else if(_tileModels.keySet().parallelStream().filter(z -> z.getButtonStateEntity().isEnabled()).count() == GAME_SETTINGS.MINES) {
-                    AbstractFactory.getFactory(ControllerFactory.class).get(GameTimerController.class).stopGameTimer();
-                    
-                    List<TileModel> mineTiles = _tileModels.keySet().parallelStream().filter(z -> z.getTileStateEntity().hasMine()).collect(Collectors.toList());
-                    for(TileModel mineTile : mineTiles) {
-                        mineTile.getButtonStateEntity().changeState(BUTTON_STATE.BUTTON_FLAG);
-                        mineTile.doneUpdating();
-                    }
-                    
-                    // Set the game as won
-                    gameStateController.setGameWon();
-                    
-                    // Get the timer result of the current game
-                    int timerResult = AbstractFactory.getFactory(ControllerFactory.class).get(GameTimerController.class).getGameTimer();
-                    if(GAME_SETTINGS != GameSettings.CUSTOM && GAME_SETTINGS.getTime() > timerResult) {
-                    
-                        // Prompt the user to enter their name
-                        String name = JOptionPane.showInputDialog(
-                            AbstractApplication.instance(), 
-                            "Congratulations, you have achieved a new highscore. Please enter your name", 
-                            "Highscore",
-                            JOptionPane.WARNING_MESSAGE
-                        );
-                        
-                        // Validate the name that was entered
-                        if(name == null || name.trim().isEmpty()) {
-                            name = "Anonymous";
-                        }
-                        else {
-                            name = name.trim();
-                        }
-                        
-                        // Set the highscore with the name provided and the new timer
-                        GAME_SETTINGS.setHighScore(name, timerResult);
-                    }
-                }
-            }
-            else {
-                // Set the game state as running, this will show the :O face
-                gameStateController.setMakingMove();                
-            }
+        _noGuessSearch = null;
+        _isSearching = false;
+        if(!isFound) {
+            Tracelog.log(Level.WARNING, true, "No board that can be solved without guessing was found after " + attempts + " candidates, the board may require guessing");
+        }
+        
+        _engine.generate(index, boardSeed, attempts);
+        AbstractFactory.getFactory(ControllerFactory.class).get(GameTimerController.class).startGameTimer();
+        reveal(index);
+    }
+    
+    /**
+     * Abandons the search for a board that can be solved without guessing, if any
+     */
+    private void cancelNoGuessSearch() {
+        if(_noGuessSearch != null) {
+            _noGuessSearch.set(true);
+            _noGuessSearch = null;
         }
+        _isSearching = false;
+    }
+    
+    @Override public boolean clear() {
+        cancelNoGuessSearch();
+        return super.clear();
     }
     
     /**
@@ -474,76 +626,105 @@ public class BoardController extends BaseController {
     public void buttonStateChangeEvent(ISignalListener listener) {
         
         GameStateController gameStateController = AbstractFactory.getFactory(ControllerFactory.class).get(GameStateController.class);
-        if(gameStateController.isGameOver()) {
+        if(gameStateController.isGameOver() || _engine.isGameOver() || _isSearching) {
             return;
         }
         
         AbstractFactory.getFactory(ControllerFactory.class).get(GameTimerController.class).startGameTimer();
         
         // Get the tile model of the listener specified
-        TileModel tileModel = _tileModels.keySet().stream().filter(z -> z.isModelListening(listener)).findFirst().get();
-        tileModel.getButtonStateEntity().changeState();
-        tileModel.doneUpdating();
+        TileModel tileModel = getTileModel(listener);
+        if(tileModel == null) {
+            return;
+        }
+        
+        // Marks can be toggled from the menu at any time, so the engine is told before every change
+        _engine.setMarksEnabled(GameSettings.MARKS_ENABLED);
+        record(GameSettings.MARKS_ENABLED ? Replay.MARK : Replay.FLAG, tileModel.getIndex());
+        _engine.toggleFlag(tileModel.getIndex());
         
         gameStateController.setGameRunning();
         
-        if(tileModel.getButtonStateEntity().isFlagged()) {
-            AbstractFactory.getFactory(ControllerFactory.class).get(BombsCounterController.class).decrementCounter();
-        }
-        else if(tileModel.getButtonStateEntity().isEmpty()) {
-            AbstractFactory.getFactory(ControllerFactory.class).get(BombsCounterController.class).incrementCounter();
-        }
+        // Update the bombs counter based on the number of flags currently on the board
+        AbstractFactory.getFactory(ControllerFactory.class).get(BombsCounterController.class).setFlagsCount(_board.getFlagCount());
     }
     
     public void performChord(ISignalListener listener) {
         GameStateController gameStateController = AbstractFactory.getFactory(ControllerFactory.class).get(GameStateController.class);
-        if(gameStateController.isGameOver()) {
+        if(gameStateController.isGameOver() || _engine.isGameOver() || _isSearching) {
             return;
         }
         
         // Get the tile model of the listener specified
-        TileModel tileModel = _tileModels.keySet().stream().filter(z -> z.isModelListening(listener)).findFirst().get();
+        TileModel tileModel = getTileModel(listener);
+        if(tileModel == null) {
+            return;
+        }
         
-        // Proceed if the button has been uncovered
-        if(!tileModel.getButtonStateEntity().isEnabled()) {
-            
-            // Get the numeral, and if it is greater than 0 and it has matching flags then proceed
-            int numeral = tileModel.getTileStateEntity().getMineNumeralEntity().getNumeral();
-            List<TileModel> chordNeighbors = getAllNeighbors(tileModel);
-            if(numeral > 0 && chordNeighbors.stream().filter(z -> z.getButtonStateEntity().isFlagged()).count() == numeral) {
-                chordNeighbors.forEach(z -> performMove(z, true));
-            }
+        // Reveal the neighbors of the tile, provided that the tile has been uncovered and that it has matching flags
+        record(Replay.CHORD, tileModel.getIndex());
+        if(_engine.chord(tileModel.getIndex()) && !_engine.isGameOver()) {
+            gameStateController.setGameRunning();
         }
     }
     
     /**
-     * Generates the board of random entities
+     * Generates the board of random entities.
+     * 
+     * Note: The mines are only placed once the first move is performed so that the first move never has
+     * a mine, and so that starting a new game does not pay for a board that may never be played
      */
     public void generateBoardEntries() {
         
-        // Clear the entities currently on the board, but do not refresh the view, wait until
-        // this operation is completed
-        _tileModels.keySet().parallelStream().forEach(z -> z.setSuppressUpdates(true));
-        clearEntities();
+        // The game being played, if any, is abandoned
+        cancelNoGuessSearch();
+        finishGame();
         
-        // Get the current list of tiles and randomize them in a new list
-        List<TileModel> tiles = new ArrayList(_tileModels.keySet());
-        Collections.shuffle(tiles, new Random(System.nanoTime()));
+        // Take the seed of the game now so that the seed of the game is known before the first move
+        _engine.newGame(GAME_SETTINGS.nextSeed());
+        _replayRecorder.start(_engine.getRows(), _engine.getColumns(), _engine.getMines(), _engine.getSeed());
+        GameJournal.instance().start(_engine, -1);
+    }
+    
+    /**
+     * Resumes the specified saved game on the board, in place of the new game that the board holds
+     * 
+     * Note: A resumed game is not recorded as a replay since its replay would not hold the moves that were
+     * performed before the game was saved
+     * 
+     * @param savedGame The saved game
+     * 
+     * @return TRUE if the game was resumed, FALSE if the saved game does not fit the board
+     */
+    public boolean resumeGame(SavedGame savedGame) {
+        if(savedGame.getRows() != _engine.getRows() || savedGame.getColumns() != _engine.getColumns() || savedGame.getMines() != _engine.getMines()) {
+            return false;
+        }
+        
+        cancelNoGuessSearch();
+        _replayRecorder.discard();
+        savedGame.restore(_engine);
+        AbstractFactory.getFactory(ControllerFactory.class).get(BombsCounterController.class).setFlagsCount(_board.getFlagCount());
         
-        // Go through the newly randomize local list and assign mine
-        for(int i = 0, size = GAME_SETTINGS.MINES; i < size; ++i) {
-            setMine(tiles.get(i));
+        // The timer continues from where it was when the last move was saved
+        long elapsed = savedGame.getElapsed();
+        if(elapsed >= 0 && !_engine.isGameOver()) {
+            AbstractFactory.getFactory(ControllerFactory.class).get(GameTimerController.class).startGameTimer(elapsed);
+            AbstractFactory.getFactory(ControllerFactory.class).get(GameStateController.class).setGameRunning();
         }
         
-        // Re-apply the update functionality and perform the update
-        _tileModels.keySet().parallelStream().forEach(z -> z.setSuppressUpdates(false));
-        _tileModels.keySet().parallelStream().forEach(z -> z.doneUpdating());
+        GameJournal.instance().resume(_engine, elapsed);
+        return true;
     }
     
     /**
      * Clears all the tiles of their entities
      */
     public void clearEntities() {
-        _tileModels.keySet().parallelStream().forEach(z -> z.reset());
+        
+        // The cleared board is the board being played, mines are then placed by hand
+        cancelNoGuessSearch();
+        record(Replay.CLEAR, 0);
+        _engine.clear();
     }
 }
\ No newline at end of file
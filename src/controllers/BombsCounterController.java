@@ -61,17 +61,15 @@ public final class BombsCounterController extends BaseController {
     }
 
     /**
-     * Increments the bomb counter
-     */
-    public void incrementCounter() {
-        _bombsCounterModel.setTimer(_bombsCounterModel.getTimerValue() + 1);
-    }
-    
-    /**
-     * Decrements the bomb counter
+     * Sets the bomb counter to the number of bombs left based on the number of flags placed
+     * 
+     * @param flags The number of flags currently placed on the board
      */
-    public void decrementCounter() {
-        _bombsCounterModel.setTimer(_bombsCounterModel.getTimerValue() - 1);
+    public void setFlagsCount(int flags) {
+        int timerValue = _bombsCounterModel.getInitialTimerValue() - flags;
+        if(timerValue != _bombsCounterModel.getTimerValue()) {
+            _bombsCounterModel.setTimer(timerValue);
+        }
     }
     
     /**
@@ -24,10 +24,13 @@
 
 package controllers;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
+import javax.swing.SwingUtilities;
+
+import core.GameScheduler;
 import engine.communication.internal.signal.ISignalListener;
 import engine.core.factories.AbstractFactory;
 import engine.core.mvc.controller.BaseController;
@@ -55,9 +58,15 @@ public final class GameTimerController extends BaseController {
     private boolean _isTimerRunning = false;
     
     /**
-     * The timer associated to updating values it the timer model
+     * The periodic work associated to updating values in the timer model
+     */
+    private ScheduledFuture<?> _timer;
+    
+    /**
+     * The generation of the timer, incremented every time that the timer is started or stopped so that
+     * the ticks of a previous timer that are still pending on the event dispatch thread are discarded
      */
-    private Timer _timer;
+    private int _generation;
     
     /**
      * Constructs a new instance of this class type
@@ -89,34 +98,58 @@ public final class GameTimerController extends BaseController {
      * Starts the game timer
      */
     public void startGameTimer() {
+        startGameTimer(0);
+    }
+    
+    /**
+     * Starts the game timer as if it had been running for the specified time
+     * 
+     * @param elapsed The time that the timer has been running for, in nanoseconds
+     */
+    public void startGameTimer(long elapsed) {
         
         // Ensure that the timer is not already running before proceeding
         if(_isTimerRunning) {
             return;
         }
         
-        // Create a timer task for running the timer. This task will
-        // increment the value in the model by one every second
-        TimerTask timerTask = new TimerTask() {
-            @Override public void run() {
-                // Calculate the next second value and if it
-                // is within the allocated threshold then apply
-                // the change
-                int tempValue = _gameTimerModel.getTimerValue() + 1;
-                if(tempValue <= GameTimerModel.MAX_VALUE) {
-                    _gameTimerModel.setTimer(tempValue);       
-                }
-                else {
-                    Tracelog.log(Level.WARNING, true, "Maximum time exceeded, stopping timer");
-                    cancel();
-                }
-            }
-        };
-        
         _isTimerRunning = true;
         
-        _timer = new Timer(true);
-        _timer.schedule(timerTask, 0, 1000);
+        // The time is computed from when the timer was started rather than accumulated
+        // one tick at a time, so that a late tick does not make the timer drift. The first
+        // tick happens right away and shows one second, like the original game does
+        final int generation = ++_generation;
+        final long startTime = System.nanoTime() - elapsed;
+        _timer = GameScheduler.instance().scheduleAtFixedRate(() -> {
+            int timerValue = 1 + (int)TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime);
+            SwingUtilities.invokeLater(() -> tick(generation, timerValue));
+        }, 0, 1, TimeUnit.SECONDS);
+    }
+    
+    /**
+     * Applies a tick of the timer to the timer model, on the event dispatch thread
+     * 
+     * @param generation The generation of the timer that ticked
+     * @param timerValue The value of the timer
+     */
+    private void tick(int generation, int timerValue) {
+        
+        // Ignore the ticks of a timer that has since been stopped, and
+        // the ticks that do not change the value that is displayed
+        if(generation != _generation || timerValue == _gameTimerModel.getTimerValue()) {
+            return;
+        }
+        
+        // Apply the change, up to the allocated threshold
+        if(_gameTimerModel.getTimerValue() != GameTimerModel.MAX_VALUE) {
+            _gameTimerModel.setTimer(Math.min(timerValue, GameTimerModel.MAX_VALUE));
+        }
+        
+        if(timerValue > GameTimerModel.MAX_VALUE) {
+            Tracelog.log(Level.WARNING, true, "Maximum time exceeded, stopping timer");
+            _timer.cancel(false);
+            ++_generation;
+        }
     }
     
     /**
@@ -125,7 +158,9 @@ public final class GameTimerController extends BaseController {
     public void stopGameTimer() {
         if(_timer != null) {
             _isTimerRunning = false;
-            _timer.cancel();
+            _timer.cancel(false);
+            _timer = null;
+            ++_generation;
         }
     }
     
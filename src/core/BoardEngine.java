@@ -0,0 +1,858 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package core;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The board engine holds the rules of the game for a single board.
+ * 
+ * The engine does not depend on any view, factory or global setting, so any number of engines can be used
+ * side by side, for example to simulate games without a display. Each engine owns its board store and its
+ * settings, and is meant to be used by a single thread at a time.
+ * 
+ * Every operation publishes the tiles that it has updated once it is done, along with the new status of
+ * the game if the status has changed, to the listeners of the engine.
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class BoardEngine {
+
+    /**
+     * The status of the game of a board engine
+     */
+    public enum Status {
+        /**
+         * The game has not started, no tile has been revealed or flagged yet
+         */
+        NEW,
+        
+        /**
+         * The game is being played
+         */
+        RUNNING,
+        
+        /**
+         * Every tile without a mine has been revealed
+         */
+        WON,
+        
+        /**
+         * A tile with a mine has been revealed
+         */
+        LOST
+    }
+    
+    /**
+     * The board store that holds the state of every tile
+     */
+    private final BoardStore _board;
+    
+    /**
+     * The number of mines to place on the board
+     */
+    private final int _mines;
+    
+    /**
+     * The listeners of this engine
+     */
+    private final List<IBoardListener> _listeners = new ArrayList();
+    
+    /**
+     * The sampler used to pick the tiles that receive a mine
+     */
+    private final MineSampler _mineSampler = new MineSampler();
+    
+    /**
+     * The tiles that cannot receive a mine when the mines are placed, this is the first move and possibly its neighbors
+     */
+    private final int[] _excludedTiles = new int[NeighborTable.MAX_NEIGHBORS + 1];
+    
+    /**
+     * The tiles of the last flood fill, which is also used as the queue of the flood fill
+     */
+    private final int[] _floodFillTiles;
+    
+    /**
+     * The set of tiles visited by the flood fill, this is cleared after every flood fill
+     */
+    private final BitSet _floodFillVisited;
+    
+    /**
+     * The indices of the tiles that have been updated within the current operation
+     */
+    private final int[] _updatedTiles;
+    
+    /**
+     * The set of tiles that have been updated within the current operation
+     */
+    private final BitSet _updatedTilesSet;
+    
+    /**
+     * The number of tiles that have been updated within the current operation
+     */
+    private int _updatedTilesCount;
+    
+    /**
+     * The number of operations that are currently opened
+     */
+    private int _operationDepth;
+    
+    /**
+     * The status of the game
+     */
+    private Status _status = Status.NEW;
+    
+    /**
+     * The status of the game that was last published to the listeners
+     */
+    private Status _publishedStatus = Status.NEW;
+    
+    /**
+     * Flag indicating if the mines of the current game have been placed
+     */
+    private boolean _isGenerated;
+    
+    /**
+     * The seed used to place the mines of the current game
+     */
+    private long _seed;
+    
+    /**
+     * Flag indicating if the first move of a game always opens an empty area
+     */
+    private boolean _isFirstMoveOpening;
+    
+    /**
+     * Flag indicating if flagging a tile goes through the marked state
+     */
+    private boolean _isMarksEnabled;
+    
+    /**
+     * Flag indicating if only boards that can be solved from the first move without guessing are generated
+     */
+    private boolean _isNoGuess;
+    
+    /**
+     * The generator of the boards that can be solved without guessing, created the first time it is needed
+     */
+    private NoGuessGenerator _noGuessGenerator;
+    
+    /**
+     * The number of candidate boards that have been looked at to generate the board of the current game
+     */
+    private int _generationAttempts;
+    
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param rows The number of rows of the board
+     * @param columns The number of columns of the board
+     * @param mines The number of mines to place on the board
+     */
+    public BoardEngine(int rows, int columns, int mines) {
+        _board = new BoardStore(rows, columns);
+        _mines = Math.max(0, Math.min(mines, _board.size() - 1));
+        _floodFillTiles = new int[_board.size()];
+        _floodFillVisited = new BitSet(_board.size());
+        _updatedTiles = new int[_board.size()];
+        _updatedTilesSet = new BitSet(_board.size());
+    }
+    
+    /**
+     * Adds a listener to this engine
+     * 
+     * @param listener The listener
+     */
+    public void addListener(IBoardListener listener) {
+        _listeners.add(listener);
+    }
+    
+    /**
+     * Removes a listener from this engine
+     * 
+     * @param listener The listener
+     */
+    public void removeListener(IBoardListener listener) {
+        _listeners.remove(listener);
+    }
+    
+    /**
+     * Gets the board store of this engine
+     * 
+     * Note: The board store holds the mines, changes should be made through this engine so that the
+     *       rules of the game are followed and the listeners are notified
+     * 
+     * @return The board store of this engine
+     */
+    public BoardStore getBoard() {
+        return _board;
+    }
+    
+    /**
+     * Gets the number of rows of the board
+     * 
+     * @return The number of rows of the board
+     */
+    public int getRows() {
+        return _board.getRows();
+    }
+    
+    /**
+     * Gets the number of columns of the board
+     * 
+     * @return The number of columns of the board
+     */
+    public int getColumns() {
+        return _board.getColumns();
+    }
+    
+    /**
+     * Gets the number of mines placed on the board once the game has started
+     * 
+     * @return The number of mines of the board
+     */
+    public int getMines() {
+        return _mines;
+    }
+    
+    /**
+     * Gets the number of mines actually on the board, which differs from the number of mines of the game once
+     * mines are placed by hand. Before the mines are placed, this is the number of mines that will be placed
+     * 
+     * @return The number of mines on the board
+     */
+    public int getMineCount() {
+        return _isGenerated ? _board.getMineCount() : _mines;
+    }
+    
+    /**
+     * Gets the status of the game
+     * 
+     * @return The status of the game
+     */
+    public Status getStatus() {
+        return _status;
+    }
+    
+    /**
+     * Gets if the game is over
+     * 
+     * @return TRUE if the game has been won or lost, FALSE otherwise
+     */
+    public boolean isGameOver() {
+        return _status == Status.WON || _status == Status.LOST;
+    }
+    
+    /**
+     * Gets the seed used to place the mines of the current game
+     * 
+     * @return The seed of the current game
+     */
+    public long getSeed() {
+        return _seed;
+    }
+    
+    /**
+     * Gets if the specified tile is still covered
+     * 
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the tile is covered, FALSE otherwise
+     */
+    public boolean isCovered(int index) {
+        return _board.isCovered(index);
+    }
+    
+    /**
+     * Gets if the specified tile is flagged
+     * 
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the tile is flagged, FALSE otherwise
+     */
+    public boolean isFlagged(int index) {
+        return _board.isFlagged(index);
+    }
+    
+    /**
+     * Gets if the specified tile is marked
+     * 
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the tile is marked, FALSE otherwise
+     */
+    public boolean isMarked(int index) {
+        return _board.isMarked(index);
+    }
+    
+    /**
+     * Gets the numeral of the specified tile, as shown to the player
+     * 
+     * @param index The index of the tile
+     * 
+     * @return The numeral of the tile, or -1 if the tile is still covered
+     */
+    public int getNumeral(int index) {
+        return _board.isCovered(index) ? -1 : _board.getNumeral(index);
+    }
+    
+    /**
+     * Gets if the first move of a game always opens an empty area
+     * 
+     * @return TRUE if the tiles surrounding the first move never have a mine, FALSE if only the tile of the first move is safe
+     */
+    public boolean isFirstMoveOpening() {
+        return _isFirstMoveOpening;
+    }
+    
+    /**
+     * Sets if the first move of a game always opens an empty area
+     * 
+     * @param isFirstMoveOpening TRUE if the tiles surrounding the first move should never have a mine, FALSE otherwise
+     */
+    public void setFirstMoveOpening(boolean isFirstMoveOpening) {
+        _isFirstMoveOpening = isFirstMoveOpening;
+    }
+    
+    /**
+     * Gets if flagging a tile goes through the marked state
+     * 
+     * @return TRUE if marks are enabled, FALSE otherwise
+     */
+    public boolean isMarksEnabled() {
+        return _isMarksEnabled;
+    }
+    
+    /**
+     * Sets if flagging a tile goes through the marked state
+     * 
+     * @param isMarksEnabled TRUE if marks are enabled, FALSE otherwise
+     */
+    public void setMarksEnabled(boolean isMarksEnabled) {
+        _isMarksEnabled = isMarksEnabled;
+    }
+    
+    /**
+     * Gets if only boards that can be solved from the first move without guessing are generated
+     * 
+     * @return TRUE if every board can be solved without guessing, FALSE otherwise
+     */
+    public boolean isNoGuess() {
+        return _isNoGuess;
+    }
+    
+    /**
+     * Sets if only boards that can be solved from the first move without guessing should be generated. Such
+     * boards always open an empty area on the first move
+     * 
+     * @param isNoGuess TRUE if every board should be solvable without guessing, FALSE otherwise
+     */
+    public void setNoGuess(boolean isNoGuess) {
+        _isNoGuess = isNoGuess;
+    }
+    
+    /**
+     * Gets the number of candidate boards that have been looked at to generate the board of the current game
+     * 
+     * @return The number of candidate boards, this is one unless boards that can be solved without guessing are generated
+     */
+    public int getGenerationAttempts() {
+        return _generationAttempts;
+    }
+    
+    /**
+     * Starts a new game, clearing the board. The mines are only placed once the first tile is revealed
+     * so that the first move never has a mine
+     * 
+     * @param seed The seed used to place the mines, the same seed and the same first move always produce the same board
+     */
+    public void newGame(long seed) {
+        beginOperation();
+        try {
+            _board.reset();
+            _isGenerated = false;
+            _seed = seed;
+            _status = Status.NEW;
+            updateAll();
+        }
+        finally {
+            endOperation();
+        }
+    }
+    
+    /**
+     * Restores a game that was saved, as it was when it was saved
+     * 
+     * @param seed The seed of the game
+     * @param status The status of the game
+     * @param isGenerated TRUE if the mines of the game have been placed, FALSE otherwise
+     * @param states The packed state of every tile, as copied from the board store
+     * @param detonatedIndex The index of the tile whose mine was revealed, or -1 if no mine was revealed
+     */
+    public void restore(long seed, Status status, boolean isGenerated, byte[] states, int detonatedIndex) {
+        beginOperation();
+        try {
+            _board.setStates(states);
+            _board.setDetonatedIndex(detonatedIndex);
+            _isGenerated = isGenerated;
+            _seed = seed;
+            _status = status;
+            updateAll();
+        }
+        finally {
+            endOperation();
+        }
+    }
+    
+    /**
+     * Gets if the mines of the game have been placed, either by the first move or by hand
+     * 
+     * @return TRUE if the mines have been placed, FALSE otherwise
+     */
+    public boolean isGenerated() {
+        return _isGenerated;
+    }
+    
+    /**
+     * Clears the board of all its mines and starts a new game without placing new mines, mines can then be placed by hand
+     */
+    public void clear() {
+        beginOperation();
+        try {
+            _board.reset();
+            _isGenerated = true;
+            _status = Status.NEW;
+            updateAll();
+        }
+        finally {
+            endOperation();
+        }
+    }
+    
+    /**
+     * Places the mines of the board around the specified first move from the specified board seed, without
+     * revealing anything. This lets the board of a game that must be solvable without guessing be searched
+     * for elsewhere, the board is then the same as the one that revealing the first move would generate
+     * 
+     * @param index The index of the tile of the first move
+     * @param boardSeed The seed of the board, as found by a {@link NoGuessGenerator} for the seed of the game and the first move
+     * @param attempts The number of candidate boards that were looked at to find the seed of the board
+     */
+    public void generate(int index, long boardSeed, int attempts) {
+        if(_isGenerated) {
+            return;
+        }
+        
+        beginOperation();
+        try {
+            placeMines(index, boardSeed);
+            _generationAttempts = attempts;
+        }
+        finally {
+            endOperation();
+        }
+    }
+    
+    /**
+     * Reveals the specified tile. Revealing an empty tile reveals the whole empty area around it
+     * 
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the tile has been revealed, FALSE if the tile could not be revealed
+     */
+    public boolean reveal(int index) {
+        if(isGameOver() || !_board.isCovered(index) || _board.isFlagged(index)) {
+            return false;
+        }
+        
+        beginOperation();
+        try {
+            // The mines are placed on the first move, away from the tile being revealed
+            if(!_isGenerated) {
+                generateMines(index);
+            }
+            _status = Status.RUNNING;
+            
+            uncover(index);
+            
+            if(_board.hasMine(index)) {
+                detonate(index);
+            }
+            else {
+                // Go through the list of adjacent tiles in a flood-fill fashion and 
+                // provided that the tiles are empty, uncover the tile
+                if(_board.isEmpty(index)) {
+                    for(int i = 0, count = floodFill(index, _floodFillTiles); i < count; ++i) {
+                        int tile = _floodFillTiles[i];
+                        if(_board.isCovered(tile) && !_board.isFlagged(tile) && !_board.isMarked(tile)) {
+                            uncover(tile);
+                        }
+                    }
+                }
+                
+                // The game is won once the only tiles left covered are the mines
+                if(_board.getCoveredCount() == _board.getMineCount()) {
+                    win();
+                }
+            }
+        }
+        finally {
+            endOperation();
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Changes the button of the specified tile to its next state, going from blank to flagged, then to marked if
+     * marks are enabled, and then back to blank
+     * 
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the button of the tile has changed, FALSE if the tile could not be changed
+     */
+    public boolean toggleFlag(int index) {
+        if(isGameOver() || !_board.isCovered(index)) {
+            return false;
+        }
+        
+        beginOperation();
+        try {
+            if(_board.isFlagged(index)) {
+                if(_isMarksEnabled) {
+                    _board.setMarked(index, true);
+                }
+                else {
+                    _board.setFlagged(index, false);
+                }
+            }
+            else if(_board.isMarked(index)) {
+                _board.setMarked(index, false);
+            }
+            else {
+                _board.setFlagged(index, true);
+            }
+            
+            if(_status == Status.NEW) {
+                _status = Status.RUNNING;
+            }
+            tileUpdated(index);
+        }
+        finally {
+            endOperation();
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Reveals every neighbor of the specified tile that is not flagged, provided that the tile has been revealed
+     * and that the number of flags around it matches its numeral
+     * 
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the chord has been performed, FALSE otherwise
+     */
+    public boolean chord(int index) {
+        if(isGameOver() || _board.isCovered(index)) {
+            return false;
+        }
+        
+        int numeral = _board.getNumeral(index);
+        int[] offsets = _board.getNeighborOffsets(index);
+        int flags = 0;
+        for(int offset : offsets) {
+            if(_board.isFlagged(index + offset)) {
+                ++flags;
+            }
+        }
+        
+        if(numeral == 0 || flags != numeral) {
+            return false;
+        }
+        
+        // The tiles uncovered by every neighbor of the chord are published together
+        beginOperation();
+        try {
+            for(int offset : offsets) {
+                if(!isGameOver()) {
+                    reveal(index + offset);
+                }
+            }
+        }
+        finally {
+            endOperation();
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Places or removes a mine by hand on the specified tile, updating the numerals around it. Once a mine is
+     * placed by hand, no mines are placed on the first move
+     * 
+     * @param index The index of the tile
+     * @param mine TRUE to place a mine, FALSE to remove it
+     */
+    public void setMine(int index, boolean mine) {
+        beginOperation();
+        try {
+            _isGenerated = true;
+            _board.setMine(index, mine);
+            if(!mine && _board.getDetonatedIndex() == index) {
+                _board.setDetonatedIndex(-1);
+            }
+            tileUpdated(index);
+            
+            // Update the surrounding neighbors to reflect the mine change
+            for(int offset : _board.getNeighborOffsets(index)) {
+                _board.setNumeral(index + offset, _board.getAdjacentMineCount(index + offset));
+                tileUpdated(index + offset);
+            }
+        }
+        finally {
+            endOperation();
+        }
+    }
+    
+    /**
+     * Gets the area that revealing the specified tile would uncover, in a flood fill fashion. The area spreads
+     * through the empty tiles and stops at the tiles that have a numeral
+     * 
+     * @param index The index of the tile to start from
+     * @param tiles The array that receives the indices of the tiles, it must be able to hold every tile of the board
+     * 
+     * @return The number of tiles written into the array
+     */
+    public int floodFill(int index, int[] tiles) {
+        
+        // The array acts as the queue of tiles to visit, where every tile before
+        // the head has been visited, as well as the final result of the flood fill
+        int count = 0;
+        tiles[count++] = index;
+        _floodFillVisited.set(index);
+        
+        for(int head = 0; head < count; ++head) {
+            int tile = tiles[head];
+            
+            // Only empty tiles spread the flood fill to their neighbors
+            if(!_board.isEmpty(tile)) {
+                continue;
+            }
+            
+            for(int offset : _board.getNeighborOffsets(tile)) {
+                int neighbor = tile + offset;
+                if(!_floodFillVisited.get(neighbor) && (_board.isEmpty(neighbor) || _board.getNumeral(neighbor) > 0)) {
+                    _floodFillVisited.set(neighbor);
+                    tiles[count++] = neighbor;
+                }
+            }
+        }
+        
+        // Clear only the tiles that were visited so that the cost of the flood fill
+        // stays proportional to the size of the flood fill and not the size of the board
+        for(int i = 0; i < count; ++i) {
+            _floodFillVisited.clear(tiles[i]);
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Generates the board around the first move, searching for a board that can be solved without guessing
+     * if needed
+     * 
+     * @param index The index of the tile of the first move
+     */
+    private void generateMines(int index) {
+        
+        // When the board must be solvable without guessing, the seed of the board is the seed of the first
+        // candidate derived from the seed of the game that the solver can play out from the first move
+        long seed = _seed;
+        int attempts = 1;
+        if(_isNoGuess) {
+            if(_noGuessGenerator == null) {
+                _noGuessGenerator = new NoGuessGenerator(_board.getRows(), _board.getColumns(), _mines);
+            }
+            seed = _noGuessGenerator.findSeed(_seed, index);
+            attempts = _noGuessGenerator.getAttempts();
+        }
+        
+        placeMines(index, seed);
+        _generationAttempts = attempts;
+    }
+    
+    /**
+     * Places the mines of the board around the first move
+     * 
+     * @param index The index of the tile of the first move
+     * @param seed The seed of the board
+     */
+    private void placeMines(int index, long seed) {
+        
+        // Exclude the tile of the first move, and its neighbors if the first move should open an empty area and
+        // there is enough room left for all the mines. The exclusions are kept in ascending order
+        int excludedCount = 0;
+        if((_isFirstMoveOpening || _isNoGuess) && _mines <= _board.size() - _excludedTiles.length) {
+            int row = _board.rowOf(index);
+            int column = _board.columnOf(index);
+            for(int i = Math.max(row - 1, 0), rowEnd = Math.min(row + 1, _board.getRows() - 1); i <= rowEnd; ++i) {
+                for(int j = Math.max(column - 1, 0), columnEnd = Math.min(column + 1, _board.getColumns() - 1); j <= columnEnd; ++j) {
+                    _excludedTiles[excludedCount++] = _board.indexOf(i, j);
+                }
+            }
+        }
+        else {
+            _excludedTiles[excludedCount++] = index;
+        }
+        
+        // Pick the tiles that should have a mine and assign them, the seed of the game is used so
+        // that the same seed and the same first move always generate the same board
+        int mines = Math.min(_mines, _board.size() - excludedCount);
+        int[] mineTiles = _mineSampler.sample(_board.size(), mines, _excludedTiles, excludedCount, new SplittableRandom(seed)::nextInt);
+        for(int i = 0; i < mines; ++i) {
+            _board.setMine(mineTiles[i], true);
+        }
+        
+        // Compute the numerals of the whole board in a single sweep now that all the mines are placed
+        _board.computeNumerals();
+        _isGenerated = true;
+        updateAll();
+    }
+    
+    /**
+     * Uncovers the specified tile
+     * 
+     * @param index The index of the tile
+     */
+    private void uncover(int index) {
+        _board.setCovered(index, false);
+        tileUpdated(index);
+    }
+    
+    /**
+     * Ends the game as lost, revealing every mine that has not been flagged and every flag that was misplaced
+     * 
+     * @param index The index of the tile whose mine was revealed
+     */
+    private void detonate(int index) {
+        _board.setDetonatedIndex(index);
+        
+        // Get all the mines that are on the board and reveal them. We do not reveal mines that have already been flagged
+        TilePositionSet minePositions = _board.getMinePositions();
+        for(int i = 0, size = minePositions.size(); i < size; ++i) {
+            int tile = minePositions.get(i);
+            if(tile != index && !_board.isFlagged(tile)) {
+                uncover(tile);
+            }
+        }
+        
+        // Get all the tiles that have flags that do not have mines, uncovering them shows them as misflagged
+        TilePositionSet flagPositions = _board.getFlagPositions();
+        for(int i = 0, size = flagPositions.size(); i < size; ++i) {
+            int tile = flagPositions.get(i);
+            if(!_board.hasMine(tile)) {
+                uncover(tile);
+            }
+        }
+        
+        _status = Status.LOST;
+    }
+    
+    /**
+     * Ends the game as won, flagging every mine
+     */
+    private void win() {
+        TilePositionSet minePositions = _board.getMinePositions();
+        for(int i = 0, size = minePositions.size(); i < size; ++i) {
+            _board.setFlagged(minePositions.get(i), true);
+            tileUpdated(minePositions.get(i));
+        }
+        
+        _status = Status.WON;
+    }
+    
+    /**
+     * Opens an operation, every tile updated until the operation is closed is only published once the outermost
+     * operation is closed
+     */
+    private void beginOperation() {
+        ++_operationDepth;
+    }
+    
+    /**
+     * Closes an operation, publishing the tiles that have been updated and the status of the game if this is the
+     * outermost operation
+     */
+    private void endOperation() {
+        if(--_operationDepth > 0) {
+            return;
+        }
+        
+        if(_updatedTilesCount > 0) {
+            for(IBoardListener listener : _listeners) {
+                listener.tilesUpdated(this, _updatedTiles, _updatedTilesCount);
+            }
+            
+            for(int i = 0; i < _updatedTilesCount; ++i) {
+                _updatedTilesSet.clear(_updatedTiles[i]);
+            }
+            _updatedTilesCount = 0;
+        }
+        
+        if(_status != _publishedStatus) {
+            _publishedStatus = _status;
+            for(IBoardListener listener : _listeners) {
+                listener.statusChanged(this, _status);
+            }
+        }
+    }
+    
+    /**
+     * Indicates that the specified tile has been updated within the current operation
+     * 
+     * @param index The index of the tile
+     */
+    private void tileUpdated(int index) {
+        if(!_updatedTilesSet.get(index)) {
+            _updatedTilesSet.set(index);
+            _updatedTiles[_updatedTilesCount++] = index;
+        }
+    }
+    
+    /**
+     * Indicates that every tile has been updated within the current operation
+     */
+    private void updateAll() {
+        for(int i = 0, size = _board.size(); i < size; ++i) {
+            tileUpdated(i);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,698 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package core;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The board solver deduces which covered tiles of a board engine are certainly safe and which are certainly
+ * mined, using only what a player can see: the numerals of the revealed tiles and the number of mines.
+ * 
+ * The solver listens to its engine and keeps the frontier of the board up to date as tiles are revealed,
+ * so that only the constraints touched by a move are looked at again. The deductions are made in three
+ * steps, each one only being used when the previous one has nothing left to give
+ * 
+ * 1. Single point rules, a numeral whose remaining mines is zero or matches its unknown neighbors
+ * 2. Pair rules, two nearby numerals whose unknown neighbors overlap, which includes the subset rule
+ * 3. Linear reduction, the whole frontier and the number of mines left are reduced as a system of equations
+ * 
+ * Note: Flags placed on the board are not trusted by the solver since a player can misplace them
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class BoardSolver implements IBoardListener {
+
+    /**
+     * Nothing is known about the tile
+     */
+    private static final byte UNKNOWN = 0;
+    
+    /**
+     * The tile is known to be safe
+     */
+    private static final byte SAFE = 1;
+    
+    /**
+     * The tile is known to have a mine
+     */
+    private static final byte MINE = 2;
+    
+    /**
+     * The tolerance used when comparing the values of the linear reduction
+     */
+    private static final double EPSILON = 1e-6;
+    
+    /**
+     * The engine of the board being solved
+     */
+    private final BoardEngine _engine;
+    
+    /**
+     * The board store of the engine
+     */
+    private final BoardStore _board;
+    
+    /**
+     * What is known about every tile of the board
+     */
+    private final byte[] _knowledge;
+    
+    /**
+     * The set of tiles that are known to be revealed by this solver
+     */
+    private final BitSet _revealed;
+    
+    /**
+     * The revealed tiles with a numeral that still have unknown neighbors
+     */
+    private final TilePositionSet _frontier = new TilePositionSet();
+    
+    /**
+     * The set of tiles that are part of the frontier
+     */
+    private final BitSet _frontierSet;
+    
+    /**
+     * The revealed tiles whose constraint must be looked at again
+     */
+    private final int[] _dirtyTiles;
+    
+    /**
+     * The number of revealed tiles whose constraint must be looked at again
+     */
+    private int _dirtyTilesCount;
+    
+    /**
+     * The set of revealed tiles whose constraint must be looked at again
+     */
+    private final BitSet _dirtyTilesSet;
+    
+    /**
+     * The tiles that have been deduced as safe, some of which may have been revealed since
+     */
+    private final int[] _safeTiles;
+    
+    /**
+     * The number of tiles that have been deduced as safe
+     */
+    private int _safeTilesCount;
+    
+    /**
+     * The number of tiles that are known to have a mine
+     */
+    private int _knownMines;
+    
+    /**
+     * The number of tiles that are neither known to be safe nor known to have a mine
+     */
+    private int _unknownCount;
+    
+    /**
+     * The unknown neighbors of the first constraint being looked at
+     */
+    private final int[] _unknownFirst = new int[NeighborTable.MAX_NEIGHBORS];
+    
+    /**
+     * The unknown neighbors of the second constraint being looked at
+     */
+    private final int[] _unknownSecond = new int[NeighborTable.MAX_NEIGHBORS];
+    
+    /**
+     * The number of mines left around the last constraint collected
+     */
+    private int _remaining;
+    
+    /**
+     * The column of each tile within the linear reduction, or -1 if the tile is not part of it
+     */
+    private final int[] _columns;
+    
+    /**
+     * The tiles of each column of the linear reduction
+     */
+    private final int[] _variables;
+    
+    /**
+     * The matrix of the linear reduction, re-used and grown between reductions
+     */
+    private double[][] _matrix = new double[0][0];
+    
+    /**
+     * Constructs a new instance of this class type, the solver listens to the specified engine from now on
+     *
+     * @param engine The engine of the board to solve
+     */
+    public BoardSolver(BoardEngine engine) {
+        _engine = engine;
+        _board = engine.getBoard();
+        
+        int size = _board.size();
+        _knowledge = new byte[size];
+        _revealed = new BitSet(size);
+        _frontierSet = new BitSet(size);
+        _dirtyTiles = new int[size];
+        _dirtyTilesSet = new BitSet(size);
+        _safeTiles = new int[size];
+        _columns = new int[size];
+        _variables = new int[size];
+        
+        Arrays.fill(_columns, -1);
+        
+        engine.addListener(this);
+        reset();
+    }
+    
+    /**
+     * Forgets everything that has been deduced and reads the revealed tiles of the board again
+     */
+    public void reset() {
+        Arrays.fill(_knowledge, UNKNOWN);
+        _revealed.clear();
+        _frontier.clear();
+        _frontierSet.clear();
+        _dirtyTilesSet.clear();
+        _dirtyTilesCount = 0;
+        _safeTilesCount = 0;
+        _knownMines = 0;
+        _unknownCount = _board.size();
+        
+        if(_engine.getStatus() != BoardEngine.Status.LOST) {
+            for(int i = 0, size = _board.size(); i < size; ++i) {
+                if(!_board.isCovered(i)) {
+                    tileRevealed(i);
+                }
+            }
+        }
+    }
+    
+    @Override public void tilesUpdated(BoardEngine engine, int[] indices, int count) {
+        
+        // A board without any revealed tile is a new game, and the mines uncovered once a game is lost
+        // are not deductions, so neither of them are read tile by tile
+        if(_board.getRevealedCount() == 0) {
+            reset();
+            return;
+        }
+        if(engine.getStatus() == BoardEngine.Status.LOST) {
+            return;
+        }
+        
+        for(int i = 0; i < count; ++i) {
+            if(!_revealed.get(indices[i]) && !_board.isCovered(indices[i])) {
+                tileRevealed(indices[i]);
+            }
+        }
+    }
+    
+    @Override public void statusChanged(BoardEngine engine, BoardEngine.Status status) {
+    }
+    
+    /**
+     * Gets if the specified tile is known to be safe
+     * 
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the tile is known to be safe, FALSE otherwise
+     */
+    public boolean isSafe(int index) {
+        return _knowledge[index] == SAFE;
+    }
+    
+    /**
+     * Gets if the specified tile is known to have a mine
+     * 
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the tile is known to have a mine, FALSE otherwise
+     */
+    public boolean isMine(int index) {
+        return _knowledge[index] == MINE;
+    }
+    
+    /**
+     * Gets the number of tiles that are known to have a mine
+     * 
+     * @return The number of tiles known to have a mine
+     */
+    public int getKnownMineCount() {
+        return _knownMines;
+    }
+    
+    /**
+     * Gets the number of covered tiles that are neither known to be safe nor known to have a mine
+     * 
+     * @return The number of unknown tiles
+     */
+    public int getUnknownCount() {
+        return _unknownCount;
+    }
+    
+    /**
+     * Gets the revealed tiles with a numeral that still have unknown neighbors
+     * 
+     * @return The frontier of the board
+     */
+    public TilePositionSet getFrontier() {
+        return _frontier;
+    }
+    
+    /**
+     * Gets a tile that is known to be safe and that is still covered, without making any new deduction
+     * 
+     * @return The index of the tile, or -1 if there is no such tile
+     */
+    public int nextSafeTile() {
+        while(_safeTilesCount > 0 && !_board.isCovered(_safeTiles[_safeTilesCount - 1])) {
+            --_safeTilesCount;
+        }
+        
+        return _safeTilesCount > 0 ? _safeTiles[_safeTilesCount - 1] : -1;
+    }
+    
+    /**
+     * Makes every deduction that can be made until a covered tile is known to be safe, or until nothing
+     * more can be deduced
+     * 
+     * @return TRUE if anything new has been deduced, FALSE otherwise
+     */
+    public boolean solve() {
+        boolean deduced = false;
+        while(true) {
+            while(_dirtyTilesCount > 0) {
+                int index = _dirtyTiles[--_dirtyTilesCount];
+                _dirtyTilesSet.clear(index);
+                deduced |= propagate(index);
+            }
+            
+            // The linear reduction is much more expensive than the rules above, so it is only used
+            // when the rules above could not find a tile to reveal
+            if(nextSafeTile() >= 0 || !reduce()) {
+                return deduced;
+            }
+            
+            deduced = true;
+        }
+    }
+    
+    /**
+     * Records that the specified tile has been revealed
+     * 
+     * @param index The index of the tile
+     */
+    private void tileRevealed(int index) {
+        _revealed.set(index);
+        if(_knowledge[index] == UNKNOWN) {
+            setKnowledge(index, SAFE);
+        }
+        
+        if(_board.getNumeral(index) > 0) {
+            _frontier.add(index);
+            _frontierSet.set(index);
+            markDirty(index);
+        }
+    }
+    
+    /**
+     * Records what is now known about the specified tile, the constraints around the tile are then looked at again
+     * 
+     * @param index The index of the tile
+     * @param knowledge What is known about the tile
+     */
+    private void setKnowledge(int index, byte knowledge) {
+        _knowledge[index] = knowledge;
+        --_unknownCount;
+        
+        if(knowledge == MINE) {
+            ++_knownMines;
+        }
+        else if(_board.isCovered(index)) {
+            _safeTiles[_safeTilesCount++] = index;
+        }
+        
+        for(int offset : _board.getNeighborOffsets(index)) {
+            if(_frontierSet.get(index + offset)) {
+                markDirty(index + offset);
+            }
+        }
+    }
+    
+    /**
+     * Indicates that the constraint of the specified tile must be looked at again
+     * 
+     * @param index The index of the tile
+     */
+    private void markDirty(int index) {
+        if(!_dirtyTilesSet.get(index)) {
+            _dirtyTilesSet.set(index);
+            _dirtyTiles[_dirtyTilesCount++] = index;
+        }
+    }
+    
+    /**
+     * Collects the unknown neighbors of the specified revealed tile, the number of mines left around
+     * the tile is held in the remaining field
+     * 
+     * @param index The index of the revealed tile
+     * @param unknown The array that receives the unknown neighbors
+     * 
+     * @return The number of unknown neighbors
+     */
+    private int collect(int index, int[] unknown) {
+        int count = 0;
+        _remaining = _board.getNumeral(index);
+        for(int offset : _board.getNeighborOffsets(index)) {
+            byte knowledge = _knowledge[index + offset];
+            if(knowledge == UNKNOWN) {
+                unknown[count++] = index + offset;
+            }
+            else if(knowledge == MINE) {
+                --_remaining;
+            }
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Applies the single point rules and the pair rules to the constraint of the specified tile
+     * 
+     * @param index The index of the revealed tile
+     * 
+     * @return TRUE if anything new has been deduced, FALSE otherwise
+     */
+    private boolean propagate(int index) {
+        int count = collect(index, _unknownFirst);
+        int remaining = _remaining;
+        
+        // A constraint without unknown neighbors has nothing left to give and leaves the frontier
+        if(count == 0) {
+            _frontier.remove(index);
+            _frontierSet.clear(index);
+            return false;
+        }
+        
+        // Single point rules, either every unknown neighbor is safe or every unknown neighbor has a mine
+        if(remaining == 0 || remaining == count) {
+            for(int i = 0; i < count; ++i) {
+                setKnowledge(_unknownFirst[i], remaining == 0 ? SAFE : MINE);
+            }
+            return true;
+        }
+        
+        // Pair rules, only the numerals within two rows and two columns can share unknown neighbors
+        int row = _board.rowOf(index);
+        int column = _board.columnOf(index);
+        for(int i = Math.max(row - 2, 0), rowEnd = Math.min(row + 2, _board.getRows() - 1); i <= rowEnd; ++i) {
+            for(int j = Math.max(column - 2, 0), columnEnd = Math.min(column + 2, _board.getColumns() - 1); j <= columnEnd; ++j) {
+                int other = _board.indexOf(i, j);
+                if(other != index && _frontierSet.get(other) && propagatePair(count, remaining, other)) {
+                    return true;
+                }
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Applies the pair rules between the first constraint and the constraint of the specified tile
+     * 
+     * @param count The number of unknown neighbors of the first constraint
+     * @param remaining The number of mines left around the first constraint
+     * @param other The index of the revealed tile of the second constraint
+     * 
+     * @return TRUE if anything new has been deduced, FALSE otherwise
+     */
+    private boolean propagatePair(int count, int remaining, int other) {
+        int otherCount = collect(other, _unknownSecond);
+        int otherRemaining = _remaining;
+        
+        int shared = 0;
+        for(int i = 0; i < count; ++i) {
+            if(contains(_unknownSecond, otherCount, _unknownFirst[i])) {
+                ++shared;
+            }
+        }
+        if(shared == 0) {
+            return false;
+        }
+        
+        int onlyFirst = count - shared;
+        int onlyOther = otherCount - shared;
+        
+        // The shared tiles hold at most the mines of the first constraint, so when the other constraint has exactly
+        // as many extra mines as it has tiles of its own, its own tiles have a mine and the first ones are safe. The
+        // same goes the other way around, and this also covers the subset rule for mines
+        if(onlyOther > 0 && otherRemaining - remaining == onlyOther) {
+            apply(_unknownSecond, otherCount, _unknownFirst, count, MINE);
+            apply(_unknownFirst, count, _unknownSecond, otherCount, SAFE);
+            return true;
+        }
+        if(onlyFirst > 0 && remaining - otherRemaining == onlyFirst) {
+            apply(_unknownFirst, count, _unknownSecond, otherCount, MINE);
+            apply(_unknownSecond, otherCount, _unknownFirst, count, SAFE);
+            return true;
+        }
+        
+        // Subset rule, when the tiles of one constraint are all shared with the other and both have the same
+        // number of mines left, the tiles of the other that are not shared are safe
+        if(remaining == otherRemaining) {
+            if(onlyFirst == 0 && onlyOther > 0) {
+                apply(_unknownSecond, otherCount, _unknownFirst, count, SAFE);
+                return true;
+            }
+            if(onlyOther == 0 && onlyFirst > 0) {
+                apply(_unknownFirst, count, _unknownSecond, otherCount, SAFE);
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Records what is known about the tiles of the first set that are not part of the second set
+     * 
+     * @param tiles The first set of tiles
+     * @param count The number of tiles of the first set
+     * @param excluded The second set of tiles
+     * @param excludedCount The number of tiles of the second set
+     * @param knowledge What is known about the tiles
+     */
+    private void apply(int[] tiles, int count, int[] excluded, int excludedCount, byte knowledge) {
+        for(int i = 0; i < count; ++i) {
+            if(_knowledge[tiles[i]] == UNKNOWN && !contains(excluded, excludedCount, tiles[i])) {
+                setKnowledge(tiles[i], knowledge);
+            }
+        }
+    }
+    
+    /**
+     * Gets if the specified tile is part of the specified set of tiles
+     * 
+     * @param tiles The set of tiles
+     * @param count The number of tiles of the set
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the tile is part of the set, FALSE otherwise
+     */
+    private static boolean contains(int[] tiles, int count, int index) {
+        for(int i = 0; i < count; ++i) {
+            if(tiles[i] == index) {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Reduces the whole frontier as a system of linear equations, along with the number of mines left on the board.
+     * 
+     * Every unknown tile next to the frontier is a variable that holds zero or one mine, and the unknown tiles away
+     * from the frontier are grouped into a single variable that holds between zero and all of them. Once the system
+     * is reduced, an equation whose value can only be reached by its variables being at their bounds gives them away
+     * 
+     * @return TRUE if anything new has been deduced, FALSE otherwise
+     */
+    private boolean reduce() {
+        if(_unknownCount == 0) {
+            return false;
+        }
+        
+        // Give a column to every unknown tile next to the frontier
+        int variables = 0;
+        for(int i = 0, size = _frontier.size(); i < size; ++i) {
+            for(int j = 0, count = collect(_frontier.get(i), _unknownFirst); j < count; ++j) {
+                if(_columns[_unknownFirst[j]] < 0) {
+                    _columns[_unknownFirst[j]] = variables;
+                    _variables[variables++] = _unknownFirst[j];
+                }
+            }
+        }
+        
+        // The last two columns are the variable of the tiles away from the frontier and the value of the equation
+        int interior = _unknownCount - variables;
+        int rows = _frontier.size() + 1;
+        int width = variables + 2;
+        if(_matrix.length < rows || _matrix[0].length < width) {
+            _matrix = new double[Math.max(rows, _matrix.length)][Math.max(width, _matrix.length == 0 ? 0 : _matrix[0].length)];
+        }
+        
+        for(int i = 0; i < rows; ++i) {
+            Arrays.fill(_matrix[i], 0, width, 0);
+        }
+        for(int i = 0; i < rows - 1; ++i) {
+            for(int j = 0, count = collect(_frontier.get(i), _unknownFirst); j < count; ++j) {
+                _matrix[i][_columns[_unknownFirst[j]]] = 1;
+            }
+            _matrix[i][width - 1] = _remaining;
+        }
+        
+        // Every unknown tile of the board together holds the mines that are left
+        Arrays.fill(_matrix[rows - 1], 0, width - 2, 1);
+        _matrix[rows - 1][width - 2] = interior > 0 ? 1 : 0;
+        _matrix[rows - 1][width - 1] = _engine.getMineCount() - _knownMines;
+        
+        eliminate(rows, width);
+        
+        // Look at the bounds of every reduced equation
+        boolean deduced = false;
+        for(int i = 0; i < rows; ++i) {
+            double[] equation = _matrix[i];
+            double minimum = 0;
+            double maximum = 0;
+            for(int j = 0; j < width - 1; ++j) {
+                double bound = j == width - 2 ? interior : 1;
+                if(equation[j] > EPSILON) {
+                    maximum += equation[j] * bound;
+                }
+                else if(equation[j] < -EPSILON) {
+                    minimum += equation[j] * bound;
+                }
+            }
+            if(maximum - minimum < EPSILON) {
+                continue;
+            }
+            
+            double value = equation[width - 1];
+            boolean atMaximum = Math.abs(value - maximum) < EPSILON;
+            boolean atMinimum = Math.abs(value - minimum) < EPSILON;
+            if(!atMaximum && !atMinimum) {
+                continue;
+            }
+            
+            for(int j = 0; j < width - 1; ++j) {
+                if(Math.abs(equation[j]) < EPSILON) {
+                    continue;
+                }
+                
+                // At the maximum, the positive variables are at their upper bound and the negative ones at zero,
+                // and the other way around at the minimum
+                byte knowledge = (equation[j] > 0) == atMaximum ? MINE : SAFE;
+                if(j < width - 2) {
+                    if(_knowledge[_variables[j]] == UNKNOWN) {
+                        setKnowledge(_variables[j], knowledge);
+                        deduced = true;
+                    }
+                }
+                else {
+                    deduced |= setInterior(knowledge);
+                }
+            }
+        }
+        
+        for(int i = 0; i < variables; ++i) {
+            _columns[_variables[i]] = -1;
+        }
+        
+        return deduced;
+    }
+    
+    /**
+     * Reduces the rows of the matrix of the linear reduction to their reduced row echelon form
+     * 
+     * @param rows The number of rows of the matrix
+     * @param width The number of columns of the matrix, including the column of the values
+     */
+    private void eliminate(int rows, int width) {
+        int pivotRow = 0;
+        for(int column = 0; column < width - 1 && pivotRow < rows; ++column) {
+            
+            // Pick the row with the largest value within the column as the pivot
+            int best = pivotRow;
+            for(int i = pivotRow + 1; i < rows; ++i) {
+                if(Math.abs(_matrix[i][column]) > Math.abs(_matrix[best][column])) {
+                    best = i;
+                }
+            }
+            if(Math.abs(_matrix[best][column]) < EPSILON) {
+                continue;
+            }
+            
+            double[] pivot = _matrix[best];
+            _matrix[best] = _matrix[pivotRow];
+            _matrix[pivotRow] = pivot;
+            
+            double scale = pivot[column];
+            for(int j = column; j < width; ++j) {
+                pivot[j] /= scale;
+            }
+            
+            for(int i = 0; i < rows; ++i) {
+                double factor = _matrix[i][column];
+                if(i != pivotRow && Math.abs(factor) > EPSILON) {
+                    double[] equation = _matrix[i];
+                    for(int j = column; j < width; ++j) {
+                        equation[j] -= factor * pivot[j];
+                    }
+                }
+            }
+            
+            ++pivotRow;
+        }
+    }
+    
+    /**
+     * Records what is known about every unknown tile away from the frontier
+     * 
+     * @param knowledge What is known about the tiles
+     * 
+     * @return TRUE if anything new has been deduced, FALSE otherwise
+     */
+    private boolean setInterior(byte knowledge) {
+        boolean deduced = false;
+        for(int i = 0, size = _board.size(); i < size; ++i) {
+            if(_knowledge[i] == UNKNOWN && _columns[i] < 0) {
+                setKnowledge(i, knowledge);
+                deduced = true;
+            }
+        }
+        
+        return deduced;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,580 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package core;
+
+import java.util.Arrays;
+
+/**
+ * The board store holds the logical state of every tile on the board within a flat primitive array.
+ * 
+ * Tiles are addressed by their index, which is computed as {@code row * columns + column}. Each tile
+ * is packed into a single byte where the lower bits hold the mine, covered, flag and mark states and
+ * the upper bits hold the numeral of the tile. Counters of the covered and marked tiles, along with
+ * the positions of the mined and flagged tiles, are kept up to date on every change so that they can
+ * be queried without scanning the board.
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class BoardStore {
+
+    /**
+     * The bit indicating that a tile has a mine
+     */
+    public static final int MINE = 1;
+    
+    /**
+     * The bit indicating that a tile is still covered by its button
+     */
+    public static final int COVERED = 1 << 1;
+    
+    /**
+     * The bit indicating that a tile has been flagged
+     */
+    public static final int FLAG = 1 << 2;
+    
+    /**
+     * The bit indicating that a tile has been marked
+     */
+    public static final int MARK = 1 << 3;
+    
+    /**
+     * The shift applied to get to the numeral bits of a tile
+     */
+    private static final int NUMERAL_SHIFT = 4;
+    
+    /**
+     * The mask of the numeral bits of a tile
+     */
+    private static final int NUMERAL_MASK = 0xF << NUMERAL_SHIFT;
+    
+    /**
+     * The state of a tile when it is first created
+     */
+    private static final byte DEFAULT_STATE = COVERED;
+    
+    /**
+     * The number of rows of this board
+     */
+    private final int _rows;
+    
+    /**
+     * The number of columns of this board
+     */
+    private final int _columns;
+    
+    /**
+     * The packed state of every tile on this board
+     */
+    private final byte[] _tiles;
+    
+    /**
+     * The offsets to the neighbors of every tile of this board
+     */
+    private final NeighborTable _neighborTable;
+    
+    /**
+     * The index of the tile whose mine was clicked, or -1 if no mine was clicked
+     */
+    private int _detonatedIndex = -1;
+    
+    /**
+     * The positions of the tiles that have a mine
+     */
+    private final TilePositionSet _minePositions = new TilePositionSet();
+    
+    /**
+     * The positions of the tiles that are flagged
+     */
+    private final TilePositionSet _flagPositions = new TilePositionSet();
+    
+    /**
+     * The number of tiles that are still covered
+     */
+    private int _coveredCount;
+    
+    /**
+     * The number of tiles that are marked
+     */
+    private int _markCount;
+    
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param rows The number of rows
+     * @param columns The number of columns
+     */
+    public BoardStore(int rows, int columns) {
+        _rows = rows;
+        _columns = columns;
+        _tiles = new byte[rows * columns];
+        _neighborTable = new NeighborTable(rows, columns);
+        reset();
+    }
+    
+    /**
+     * Gets the number of rows of this board
+     * 
+     * @return The number of rows of this board
+     */
+    public int getRows() {
+        return _rows;
+    }
+    
+    /**
+     * Gets the number of columns of this board
+     * 
+     * @return The number of columns of this board
+     */
+    public int getColumns() {
+        return _columns;
+    }
+    
+    /**
+     * Gets the number of tiles of this board
+     * 
+     * @return The number of tiles of this board
+     */
+    public int size() {
+        return _tiles.length;
+    }
+    
+    /**
+     * Gets the index of the tile at the specified row and column
+     * 
+     * @param row The row of the tile
+     * @param column The column of the tile
+     * 
+     * @return The index of the tile
+     */
+    public int indexOf(int row, int column) {
+        return row * _columns + column;
+    }
+    
+    /**
+     * Gets the row of the specified tile
+     * 
+     * @param index The index of the tile
+     * 
+     * @return The row of the tile
+     */
+    public int rowOf(int index) {
+        return index / _columns;
+    }
+    
+    /**
+     * Gets the column of the specified tile
+     * 
+     * @param index The index of the tile
+     * 
+     * @return The column of the tile
+     */
+    public int columnOf(int index) {
+        return index % _columns;
+    }
+    
+    /**
+     * Gets the offsets from the specified tile to each of its neighbors
+     * 
+     * @param index The index of the tile
+     * 
+     * @return The offsets sorted in ascending order, adding an offset to the index of the tile gives the index of a neighbor.
+     *         The array is shared and must not be modified
+     */
+    public int[] getNeighborOffsets(int index) {
+        return _neighborTable.getOffsets(index);
+    }
+    
+    /**
+     * Gets the number of neighbors of the specified tile that have a mine
+     * 
+     * @param index The index of the tile
+     * 
+     * @return The number of neighbors that have a mine
+     */
+    public int getAdjacentMineCount(int index) {
+        int count = 0;
+        for(int offset : _neighborTable.getOffsets(index)) {
+            count += _tiles[index + offset] & MINE;
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Gets the number of tiles that have a mine
+     * 
+     * @return The number of tiles that have a mine
+     */
+    public int getMineCount() {
+        return _minePositions.size();
+    }
+    
+    /**
+     * Gets the positions of the tiles that have a mine
+     * 
+     * @return The positions of the tiles that have a mine
+     */
+    public TilePositionSet getMinePositions() {
+        return _minePositions;
+    }
+    
+    /**
+     * Gets the number of tiles that are still covered
+     * 
+     * @return The number of tiles that are still covered
+     */
+    public int getCoveredCount() {
+        return _coveredCount;
+    }
+    
+    /**
+     * Gets the number of tiles that have been revealed
+     * 
+     * @return The number of tiles that have been revealed
+     */
+    public int getRevealedCount() {
+        return _tiles.length - _coveredCount;
+    }
+    
+    /**
+     * Gets the number of tiles that are flagged
+     * 
+     * @return The number of tiles that are flagged
+     */
+    public int getFlagCount() {
+        return _flagPositions.size();
+    }
+    
+    /**
+     * Gets the positions of the tiles that are flagged
+     * 
+     * @return The positions of the tiles that are flagged
+     */
+    public TilePositionSet getFlagPositions() {
+        return _flagPositions;
+    }
+    
+    /**
+     * Gets the number of tiles that are marked
+     * 
+     * @return The number of tiles that are marked
+     */
+    public int getMarkCount() {
+        return _markCount;
+    }
+    
+    /**
+     * Gets the raw packed state of the specified tile
+     * 
+     * @param index The index of the tile
+     * 
+     * @return The packed state of the tile
+     */
+    public int getState(int index) {
+        return _tiles[index] & 0xFF;
+    }
+    
+    /**
+     * Copies the packed state of every tile of this board
+     * 
+     * @param states The array that receives the packed states, it must be able to hold every tile of the board
+     */
+    public void copyStates(byte[] states) {
+        System.arraycopy(_tiles, 0, states, 0, _tiles.length);
+    }
+    
+    /**
+     * Sets the packed state of every tile of this board, as copied by {@link #copyStates(byte[])}
+     * 
+     * @param states The packed states of the tiles
+     */
+    public void setStates(byte[] states) {
+        reset();
+        for(int i = 0; i < _tiles.length; ++i) {
+            setState(i, states[i]);
+        }
+    }
+
+    /**
+     * Gets if the specified tile has a mine
+     * 
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the tile has a mine, FALSE otherwise
+     */
+    public boolean hasMine(int index) {
+        return (_tiles[index] & MINE) != 0;
+    }
+    
+    /**
+     * Sets if the specified tile has a mine
+     * 
+     * @param index The index of the tile
+     * @param mine TRUE if the tile should have a mine, FALSE otherwise
+     */
+    public void setMine(int index, boolean mine) {
+        setBit(index, MINE, mine);
+    }
+    
+    /**
+     * Gets if the specified tile is still covered
+     * 
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the tile is covered, FALSE otherwise
+     */
+    public boolean isCovered(int index) {
+        return (_tiles[index] & COVERED) != 0;
+    }
+    
+    /**
+     * Sets if the specified tile is covered
+     * 
+     * @param index The index of the tile
+     * @param covered TRUE if the tile should be covered, FALSE otherwise
+     */
+    public void setCovered(int index, boolean covered) {
+        setBit(index, COVERED, covered);
+    }
+    
+    /**
+     * Gets if the specified tile is flagged
+     * 
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the tile is flagged, FALSE otherwise
+     */
+    public boolean isFlagged(int index) {
+        return (_tiles[index] & FLAG) != 0;
+    }
+    
+    /**
+     * Sets if the specified tile is flagged. A flagged tile cannot also be marked
+     * 
+     * @param index The index of the tile
+     * @param flagged TRUE if the tile should be flagged, FALSE otherwise
+     */
+    public void setFlagged(int index, boolean flagged) {
+        if(flagged) {
+            setBit(index, MARK, false);
+        }
+        setBit(index, FLAG, flagged);
+    }
+    
+    /**
+     * Gets if the specified tile is marked
+     * 
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the tile is marked, FALSE otherwise
+     */
+    public boolean isMarked(int index) {
+        return (_tiles[index] & MARK) != 0;
+    }
+    
+    /**
+     * Sets if the specified tile is marked. A marked tile cannot also be flagged
+     * 
+     * @param index The index of the tile
+     * @param marked TRUE if the tile should be marked, FALSE otherwise
+     */
+    public void setMarked(int index, boolean marked) {
+        if(marked) {
+            setBit(index, FLAG, false);
+        }
+        setBit(index, MARK, marked);
+    }
+    
+    /**
+     * Gets the numeral of the specified tile
+     * 
+     * @param index The index of the tile
+     * 
+     * @return The number of mines surrounding the tile
+     */
+    public int getNumeral(int index) {
+        return (_tiles[index] & NUMERAL_MASK) >>> NUMERAL_SHIFT;
+    }
+    
+    /**
+     * Sets the numeral of the specified tile
+     * 
+     * @param index The index of the tile
+     * @param numeral The number of mines surrounding the tile
+     */
+    public void setNumeral(int index, int numeral) {
+        _tiles[index] = (byte)((_tiles[index] & ~NUMERAL_MASK) | ((numeral << NUMERAL_SHIFT) & NUMERAL_MASK));
+    }
+    
+    /**
+     * Computes the numeral of every tile of the board from the mines currently on the board.
+     * 
+     * The board is swept one row at a time, where the number of mines in each column of the
+     * three rows centered on the current row is summed first, and the numeral of a tile is then
+     * the sum of the three column sums centered on the tile, minus the tile itself
+     */
+    public void computeNumerals() {
+        int[] columnSums = new int[_columns];
+        for(int row = 0; row < _rows; ++row) {
+            
+            // Sum the mines of each column within the rows above, at and below the current row
+            for(int column = 0, index = row * _columns; column < _columns; ++column, ++index) {
+                int sum = _tiles[index] & MINE;
+                if(row > 0) {
+                    sum += _tiles[index - _columns] & MINE;
+                }
+                if(row + 1 < _rows) {
+                    sum += _tiles[index + _columns] & MINE;
+                }
+                columnSums[column] = sum;
+            }
+            
+            // Slide a window of three columns across the row to get the numeral of each tile
+            int window = columnSums[0] + (_columns > 1 ? columnSums[1] : 0);
+            for(int column = 0, index = row * _columns; column < _columns; ++column, ++index) {
+                setNumeral(index, window - (_tiles[index] & MINE));
+                if(column > 0) {
+                    window -= columnSums[column - 1];
+                }
+                if(column + 2 < _columns) {
+                    window += columnSums[column + 2];
+                }
+            }
+        }
+    }
+    
+    /**
+     * Gets if the specified tile is empty, meaning that it has no mine and no surrounding mines
+     * 
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the tile is empty, FALSE otherwise
+     */
+    public boolean isEmpty(int index) {
+        return (_tiles[index] & (MINE | NUMERAL_MASK)) == 0;
+    }
+    
+    /**
+     * Gets if the specified tile is considered misflagged, this is when a tile without a mine was flagged
+     * and then revealed at the end of a game
+     * 
+     * @param index The index of the tile
+     * 
+     * @return TRUE if the tile is misflagged, FALSE otherwise
+     */
+    public boolean isMisflagged(int index) {
+        return (_tiles[index] & (MINE | COVERED | FLAG)) == FLAG;
+    }
+    
+    /**
+     * Gets the index of the tile whose mine was clicked
+     * 
+     * @return The index of the tile whose mine was clicked, or -1 if no mine was clicked
+     */
+    public int getDetonatedIndex() {
+        return _detonatedIndex;
+    }
+    
+    /**
+     * Sets the index of the tile whose mine was clicked
+     * 
+     * @param index The index of the tile, or -1 to clear it
+     */
+    public void setDetonatedIndex(int index) {
+        _detonatedIndex = index;
+    }
+    
+    /**
+     * Resets the specified tile back to its default state
+     * 
+     * @param index The index of the tile
+     */
+    public void reset(int index) {
+        setState(index, DEFAULT_STATE);
+        if(_detonatedIndex == index) {
+            _detonatedIndex = -1;
+        }
+    }
+    
+    /**
+     * Resets every tile of this board back to its default state
+     */
+    public void reset() {
+        Arrays.fill(_tiles, DEFAULT_STATE);
+        _detonatedIndex = -1;
+        _minePositions.clear();
+        _coveredCount = _tiles.length;
+        _flagPositions.clear();
+        _markCount = 0;
+    }
+    
+    /**
+     * Sets or clears the specified bit of a tile
+     * 
+     * @param index The index of the tile
+     * @param bit The bit to modify
+     * @param value TRUE to set the bit, FALSE to clear it
+     */
+    private void setBit(int index, int bit, boolean value) {
+        setState(index, value ? _tiles[index] | bit : _tiles[index] & ~bit);
+    }
+    
+    /**
+     * Sets the packed state of a tile and updates the board counters with the bits that have changed
+     * 
+     * @param index The index of the tile
+     * @param state The packed state of the tile
+     */
+    private void setState(int index, int state) {
+        int changed = (_tiles[index] ^ state) & (MINE | COVERED | FLAG | MARK);
+        if(changed != 0) {
+            if((changed & MINE) != 0) {
+                if((state & MINE) != 0) {
+                    _minePositions.add(index);
+                }
+                else {
+                    _minePositions.remove(index);
+                }
+            }
+            if((changed & COVERED) != 0) {
+                _coveredCount += (state & COVERED) != 0 ? 1 : -1;
+            }
+            if((changed & FLAG) != 0) {
+                if((state & FLAG) != 0) {
+                    _flagPositions.add(index);
+                }
+                else {
+                    _flagPositions.remove(index);
+                }
+            }
+            if((changed & MARK) != 0) {
+                _markCount += (state & MARK) != 0 ? 1 : -1;
+            }
+        }
+        
+        _tiles[index] = (byte) state;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,224 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package core;
+
+import java.awt.Graphics;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.HashMap;
+import java.util.Map;
+
+import application.MainApplication;
+import engine.core.graphics.IRenderable;
+import generated.DataLookup;
+
+/**
+ * The digit renderer renders a counter made of digits, such as the game timer and the bombs counter.
+ * 
+ * The digits of a skin are composed once into a strip, and the counter is rendered into an image that is reused
+ * for as long as the renderer exists. When the value of the counter changes only the digits that changed are
+ * copied from the strip into the image, so that updating the counter allocates nothing.
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class DigitRenderer implements IRenderable {
+
+    /**
+     * The index within a strip of the glyph of an empty digit, the glyph of a digit is found right after it
+     */
+    private static final int EMPTY_GLYPH = DataLookup.NUMERAL.TIMER_EMPTY.ordinal();
+    
+    /**
+     * The number of glyphs within a strip
+     */
+    private static final int GLYPHS = DataLookup.NUMERAL.values().length;
+    
+    /**
+     * The strips of the skins that have been composed so far, by the type of the sprites of the skin
+     */
+    private static final Map<Class<?>, int[]> _strips = new HashMap();
+    
+    /**
+     * The width of a glyph
+     */
+    private static int _glyphWidth;
+    
+    /**
+     * The height of a glyph
+     */
+    private static int _glyphHeight;
+    
+    /**
+     * The number of digits of the counter
+     */
+    private final int _digits;
+    
+    /**
+     * The glyph currently rendered at every digit of the counter
+     */
+    private final int[] _glyphs;
+    
+    /**
+     * The largest value that fits within the digits of the counter
+     */
+    private final int _maximum;
+    
+    /**
+     * The type of the sprites of the skin currently rendered
+     */
+    private Class<?> _skin;
+    
+    /**
+     * The pixels of the strip of the skin currently rendered
+     */
+    private int[] _strip;
+    
+    /**
+     * The image of the counter
+     */
+    private BufferedImage _image;
+    
+    /**
+     * The pixels of the image of the counter
+     */
+    private int[] _pixels;
+    
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param digits The number of digits of the counter
+     */
+    public DigitRenderer(int digits) {
+        _digits = digits;
+        _glyphs = new int[digits];
+        
+        int maximum = 1;
+        for(int i = 0; i < digits; ++i) {
+            maximum *= 10;
+        }
+        _maximum = maximum - 1;
+    }
+    
+    /**
+     * Sets the value of the counter. A negative value is rendered with an empty first digit, and a value that
+     * does not fit within the digits of the counter is clamped
+     * 
+     * @param value The value of the counter
+     */
+    public void setValue(int value) {
+        
+        // Changing the skin renders every digit again
+        Class<?> skin = MainApplication.instance().isDebug() ? DataLookup.NUMERAL_DEBUG.class : DataLookup.NUMERAL.class;
+        if(skin != _skin) {
+            setSkin(skin);
+        }
+        
+        // The digits are padded with zeros, and the first digit of a negative value is left empty
+        int first = value < 0 ? 1 : 0;
+        int remainder = Math.min(Math.abs(value), value < 0 ? _maximum / 10 : _maximum);
+        for(int i = _digits - 1; i >= first; --i) {
+            setGlyph(i, EMPTY_GLYPH + 1 + remainder % 10);
+            remainder /= 10;
+        }
+        
+        if(first == 1) {
+            setGlyph(0, EMPTY_GLYPH);
+        }
+    }
+    
+    @Override public Image getRenderableContent() {
+        return _image;
+    }
+    
+    /**
+     * Sets the glyph rendered at the specified digit, copying it from the strip if it changed
+     * 
+     * @param digit The digit of the counter
+     * @param glyph The glyph within the strip
+     */
+    private void setGlyph(int digit, int glyph) {
+        if(_glyphs[digit] == glyph) {
+            return;
+        }
+        
+        _glyphs[digit] = glyph;
+        int stripWidth = _glyphWidth * GLYPHS;
+        int imageWidth = _glyphWidth * _digits;
+        for(int y = 0; y < _glyphHeight; ++y) {
+            System.arraycopy(_strip, y * stripWidth + glyph * _glyphWidth, _pixels, y * imageWidth + digit * _glyphWidth, _glyphWidth);
+        }
+    }
+    
+    /**
+     * Sets the skin rendered by this renderer
+     * 
+     * @param skin The type of the sprites of the skin
+     */
+    private void setSkin(Class<?> skin) {
+        _skin = skin;
+        _strip = getStrip(skin);
+        
+        if(_image == null) {
+            _image = new BufferedImage(_glyphWidth * _digits, _glyphHeight, BufferedImage.TYPE_INT_ARGB);
+            _pixels = ((DataBufferInt)_image.getRaster().getDataBuffer()).getData();
+        }
+        
+        // Invalidate every digit so that they are all copied from the new strip
+        for(int i = 0; i < _digits; ++i) {
+            _glyphs[i] = -1;
+        }
+    }
+    
+    /**
+     * Gets the strip of the specified skin, composing it the first time that it is requested
+     * 
+     * @param skin The type of the sprites of the skin
+     * 
+     * @return The pixels of the strip, the glyph of an empty digit followed by the glyphs of the digits from 0 to 9
+     */
+    private static int[] getStrip(Class<?> skin) {
+        int[] strip = _strips.get(skin);
+        if(strip == null) {
+            Enum<?>[] sprites = (Enum<?>[]) skin.getEnumConstants();
+            Image first = SpriteCache.instance().getImage(sprites[0]);
+            _glyphWidth = first.getWidth(null);
+            _glyphHeight = first.getHeight(null);
+            
+            BufferedImage image = new BufferedImage(_glyphWidth * sprites.length, _glyphHeight, BufferedImage.TYPE_INT_ARGB);
+            Graphics graphics = image.getGraphics();
+            for(Enum<?> sprite : sprites) {
+                graphics.drawImage(SpriteCache.instance().getImage(sprite), sprite.ordinal() * _glyphWidth, 0, null);
+            }
+            graphics.dispose();
+            
+            strip = ((DataBufferInt)image.getRaster().getDataBuffer()).getData();
+            _strips.put(skin, strip);
+        }
+        
+        return strip;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package core;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * The scheduler shared by the whole application for running periodic and delayed work, such as the game timer,
+ * so that no thread has to be created every time that a game starts.
+ * 
+ * The work runs on the single thread of the scheduler, anything that updates the user interface must be handed
+ * to the event dispatch thread
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class GameScheduler {
+
+    /**
+     * The scheduler singleton instance
+     */
+    private static final ScheduledThreadPoolExecutor _instance = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "Game Scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    static {
+        // Cancelled work should not linger in the queue until its delay elapses
+        _instance.setRemoveOnCancelPolicy(true);
+    }
+    
+    /**
+     * Constructs a new instance of this class type
+     */
+    private GameScheduler() {
+    }
+    
+    /**
+     * The singleton instance associated to this class
+     * 
+     * @return The singleton instance associated to this class
+     */
+    public static ScheduledExecutorService instance() {
+        return _instance;
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package core;
 
 import java.awt.Dimension;
+import java.util.SplittableRandom;
 
 /**
  * The game settings that are available within the game
@@ -35,11 +36,26 @@ public enum GameSettings {
      */
     public static boolean MARKS_ENABLED = false;
     
+    /**
+     * The maximum number of rows of a custom game setting
+     */
+    public static final int MAX_ROWS = 24;
+    
+    /**
+     * The maximum number of columns of a custom game setting
+     */
+    public static final int MAX_COLUMNS = 30;
+    
     /**
      * The counter of the game settings
      */
     private static int _counter;
     
+    /**
+     * The generator of seeds used when a game setting does not have a fixed seed
+     */
+    private static final SplittableRandom SEED_GENERATOR = new SplittableRandom();
+    
     /**
      * The time of the high score of the game setting
      */
@@ -50,6 +66,26 @@ public enum GameSettings {
      */
     private String _name = "Anonymous";
     
+    /**
+     * The seed used to generate the board of the last game of this game setting
+     */
+    private long _seed;
+    
+    /**
+     * Flag indicating if the seed is fixed, in which case every game of this game setting uses the same seed
+     */
+    private boolean _isSeedFixed;
+    
+    /**
+     * Flag indicating if the first move of a game should always open an empty area
+     */
+    private boolean _isFirstMoveOpening;
+    
+    /**
+     * Flag indicating if only boards that can be solved from the first move without guessing should be generated
+     */
+    private boolean _isNoGuess;
+    
     /**
      * The identifier associated to this game setting
      */
@@ -132,6 +168,133 @@ public enum GameSettings {
         _time = time;
     }
     
+    /**
+     * Gets the seed used to generate the board of the last game of this game setting
+     * 
+     * @return The seed of the last game, or the fixed seed if one has been set
+     */
+    public long getSeed() {
+        return _seed;
+    }
+    
+    /**
+     * Gets if the seed of this game setting is fixed
+     * 
+     * @return TRUE if every game of this game setting uses the same seed, FALSE otherwise
+     */
+    public boolean isSeedFixed() {
+        return _isSeedFixed;
+    }
+    
+    /**
+     * Sets a fixed seed for this game setting, every game will use this seed to generate
+     * its board so that the same dimensions and mines always produce the same board
+     * 
+     * @param seed The seed
+     */
+    public void setSeed(long seed) {
+        _seed = seed;
+        _isSeedFixed = true;
+    }
+    
+    /**
+     * Clears the fixed seed of this game setting, every game will use a new random seed
+     */
+    public void clearSeed() {
+        _isSeedFixed = false;
+    }
+    
+    /**
+     * Gets the seed to use for generating the board of a new game
+     * 
+     * @return The fixed seed if one has been set, otherwise a new random seed
+     */
+    public long nextSeed() {
+        if(!_isSeedFixed) {
+            _seed = SEED_GENERATOR.nextLong();
+        }
+        
+        return _seed;
+    }
+    
+    /**
+     * Sets a fixed seed for every game setting
+     * 
+     * @param seed The seed
+     */
+    public static void setSeeds(long seed) {
+        for(GameSettings setting : values()) {
+            setting.setSeed(seed);
+        }
+    }
+    
+    /**
+     * Clears the fixed seed of every game setting
+     */
+    public static void clearSeeds() {
+        for(GameSettings setting : values()) {
+            setting.clearSeed();
+        }
+    }
+    
+    /**
+     * Gets if the first move of a game always opens an empty area
+     * 
+     * @return TRUE if the tiles surrounding the first move never have a mine, FALSE if only the tile of the first move is safe
+     */
+    public boolean isFirstMoveOpening() {
+        return _isFirstMoveOpening;
+    }
+    
+    /**
+     * Sets if the first move of a game always opens an empty area
+     * 
+     * @param isFirstMoveOpening TRUE if the tiles surrounding the first move should never have a mine, FALSE otherwise
+     */
+    public void setFirstMoveOpening(boolean isFirstMoveOpening) {
+        _isFirstMoveOpening = isFirstMoveOpening;
+    }
+    
+    /**
+     * Sets if the first move of a game always opens an empty area for every game setting
+     * 
+     * @param isFirstMoveOpening TRUE if the tiles surrounding the first move should never have a mine, FALSE otherwise
+     */
+    public static void setFirstMoveOpenings(boolean isFirstMoveOpening) {
+        for(GameSettings setting : values()) {
+            setting.setFirstMoveOpening(isFirstMoveOpening);
+        }
+    }
+    
+    /**
+     * Gets if only boards that can be solved from the first move without guessing are generated
+     * 
+     * @return TRUE if every board can be solved without guessing, FALSE otherwise
+     */
+    public boolean isNoGuess() {
+        return _isNoGuess;
+    }
+    
+    /**
+     * Sets if only boards that can be solved from the first move without guessing should be generated
+     * 
+     * @param isNoGuess TRUE if every board should be solvable without guessing, FALSE otherwise
+     */
+    public void setNoGuess(boolean isNoGuess) {
+        _isNoGuess = isNoGuess;
+    }
+    
+    /**
+     * Sets if only boards that can be solved from the first move without guessing should be generated for every game setting
+     * 
+     * @param isNoGuess TRUE if every board should be solvable without guessing, FALSE otherwise
+     */
+    public static void setNoGuesses(boolean isNoGuess) {
+        for(GameSettings setting : values()) {
+            setting.setNoGuess(isNoGuess);
+        }
+    }
+    
     /**
      * Resets the game settings high score
      */
@@ -140,6 +303,25 @@ public enum GameSettings {
         _time = 999;
     }
     
+    /**
+     * Gets the game setting that matches the rows, columns, and mines provided
+     * 
+     * @param rows The rows
+     * @param columns The columns
+     * @param mines The mines
+     * 
+     * @return The beginner, intermediate or expert game setting if one matches, else a custom game setting
+     */
+    public static GameSettings getGameSetting(int rows, int columns, int mines) {
+        for(GameSettings settings : new GameSettings[] { BEGINNER, INTERMEDITE, EXPERT }) {
+            if(settings.ROWS == rows && settings.COLUMNS == columns && settings.MINES == mines) {
+                return settings;
+            }
+        }
+        
+        return getCustomGameSetting(rows, columns, mines);
+    }
+    
     /**
      * Gets a customer game based on the rows, columns, and mines provided
      * 
@@ -156,8 +338,8 @@ public enum GameSettings {
         if(rows < GameSettings.BEGINNER.ROWS) {
             rows = GameSettings.BEGINNER.ROWS;
         }
-        else if(rows > 24) {
-            rows = 24;
+        else if(rows > MAX_ROWS) {
+            rows = MAX_ROWS;
         }
         settings.ROWS = rows;
         
@@ -165,8 +347,8 @@ public enum GameSettings {
         if(columns < GameSettings.BEGINNER.COLUMNS) {
             columns = GameSettings.BEGINNER.COLUMNS;
         }
-        else if(columns > 30) {
-            columns = 30;
+        else if(columns > MAX_COLUMNS) {
+            columns = MAX_COLUMNS;
         }        
         settings.COLUMNS = columns;
 
@@ -0,0 +1,51 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package core;
+
+/**
+ * The listener of the changes made to the board of a board engine
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public interface IBoardListener {
+
+    /**
+     * Raised once an operation on the board has updated tiles
+     * 
+     * @param engine The board engine that updated the tiles
+     * @param indices The indices of the tiles that have been updated, only valid while this event is being raised
+     * @param count The number of valid entries within the indices
+     */
+    void tilesUpdated(BoardEngine engine, int[] indices, int count);
+    
+    /**
+     * Raised once an operation on the board has changed the status of the game
+     * 
+     * @param engine The board engine whose status has changed
+     * @param status The new status of the game
+     */
+    void statusChanged(BoardEngine engine, BoardEngine.Status status);
+}
\ No newline at end of file
@@ -0,0 +1,208 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package core;
+
+import java.util.BitSet;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * The mine sampler picks a set of distinct tiles that should receive a mine.
+ * 
+ * A partial Fisher-Yates shuffle over a re-used array of tile indices is performed, so that only as
+ * many swaps as there are mines are done. When the density of mines is low, Floyd's algorithm is
+ * used instead so that the array of tile indices never has to be touched.
+ * 
+ * The same source of randomness, number of tiles and number of mines always produces the same sample,
+ * no matter what was sampled beforehand.
+ * 
+ * The source of randomness is pluggable, it takes an exclusive upper bound and returns a random value
+ * between zero and that bound, for example {@code new SplittableRandom(seed)::nextInt}
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class MineSampler {
+
+    /**
+     * The density, expressed as the number of tiles per mine, at or above which Floyd's algorithm is used
+     */
+    private static final int FLOYD_TILES_PER_MINE = 8;
+    
+    /**
+     * The tile indices, this is re-used between samples and is restored to its identity order after each shuffle
+     */
+    private int[] _tiles = new int[0];
+    
+    /**
+     * The swaps performed by the last shuffle, used to restore the tile indices
+     */
+    private int[] _swaps = new int[0];
+    
+    /**
+     * The tiles that have been picked by Floyd's algorithm
+     */
+    private final BitSet _picked = new BitSet();
+    
+    /**
+     * The tiles that have been sampled, only the first entries up to the number of mines are valid
+     */
+    private int[] _samples = new int[0];
+    
+    /**
+     * Samples the specified number of distinct tiles
+     * 
+     * @param tiles The number of tiles on the board
+     * @param mines The number of mines to place, this cannot exceed the number of tiles
+     * @param random The source of randomness, returning a value between zero and the bound passed in
+     * 
+     * @return The array of sampled tile indices, where only the first entries up to the number of mines are valid.
+     *         The array is owned by this sampler and is overwritten by the next sample
+     */
+    public int[] sample(int tiles, int mines, IntUnaryOperator random) {
+        mines = Math.max(0, Math.min(mines, tiles));
+        if(_samples.length < mines) {
+            _samples = new int[mines];
+            _swaps = new int[mines];
+        }
+        
+        if(mines == 0 || (long)mines * FLOYD_TILES_PER_MINE <= tiles) {
+            sampleFloyd(tiles, mines, random);
+        }
+        else {
+            sampleFisherYates(tiles, mines, random);
+        }
+        
+        return _samples;
+    }
+    
+    /**
+     * Samples the specified number of distinct tiles, none of which are part of the excluded tiles
+     * 
+     * @param tiles The number of tiles on the board
+     * @param mines The number of mines to place, this cannot exceed the number of tiles that are not excluded
+     * @param excluded The tile indices that should never be sampled, sorted in ascending order and without duplicates
+     * @param excludedCount The number of valid entries within the excluded tile indices
+     * @param random The source of randomness, returning a value between zero and the bound passed in
+     * 
+     * @return The array of sampled tile indices, where only the first entries up to the number of mines are valid.
+     *         The array is owned by this sampler and is overwritten by the next sample
+     */
+    public int[] sample(int tiles, int mines, int[] excluded, int excludedCount, IntUnaryOperator random) {
+        mines = Math.max(0, Math.min(mines, tiles - excludedCount));
+        sample(tiles - excludedCount, mines, random);
+        
+        // Sample from the tiles that are not excluded, and then shift each sample past
+        // the excluded tiles that come before it so that it lands on the matching tile
+        for(int i = 0; i < mines; ++i) {
+            int tile = _samples[i];
+            for(int j = 0; j < excludedCount && tile >= excluded[j]; ++j) {
+                ++tile;
+            }
+            _samples[i] = tile;
+        }
+        
+        return _samples;
+    }
+    
+    /**
+     * Derives a seed from a base seed and a number, where consecutive numbers give unrelated seeds. This is
+     * used to give each of a series of boards its own seed, such as every game of a simulation
+     * 
+     * @param seed The base seed
+     * @param number The number of the seed within the series
+     * 
+     * @return The derived seed
+     */
+    public static long deriveSeed(long seed, long number) {
+        seed += number * 0x9E3779B97F4A7C15L;
+        seed = (seed ^ (seed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        seed = (seed ^ (seed >>> 27)) * 0x94D049BB133111EBL;
+        return seed ^ (seed >>> 31);
+    }
+    
+    /**
+     * Samples the tiles using a partial Fisher-Yates shuffle
+     * 
+     * @param tiles The number of tiles on the board
+     * @param mines The number of mines to place
+     * @param random The source of randomness
+     */
+    private void sampleFisherYates(int tiles, int mines, IntUnaryOperator random) {
+        if(_tiles.length != tiles) {
+            _tiles = new int[tiles];
+            for(int i = 0; i < tiles; ++i) {
+                _tiles[i] = i;
+            }
+        }
+        
+        for(int i = 0; i < mines; ++i) {
+            int j = i + random.applyAsInt(tiles - i);
+            swap(i, j);
+            _swaps[i] = j;
+            _samples[i] = _tiles[i];
+        }
+        
+        // Undo the swaps in reverse order so that the next shuffle starts from the identity order, this keeps
+        // the samples reproducible while only touching as many tiles as there are mines
+        for(int i = mines - 1; i >= 0; --i) {
+            swap(i, _swaps[i]);
+        }
+    }
+    
+    /**
+     * Swaps two tile indices
+     * 
+     * @param i The position of the first tile index
+     * @param j The position of the second tile index
+     */
+    private void swap(int i, int j) {
+        int tile = _tiles[j];
+        _tiles[j] = _tiles[i];
+        _tiles[i] = tile;
+    }
+    
+    /**
+     * Samples the tiles using Floyd's algorithm
+     * 
+     * @param tiles The number of tiles on the board
+     * @param mines The number of mines to place
+     * @param random The source of randomness
+     */
+    private void sampleFloyd(int tiles, int mines, IntUnaryOperator random) {
+        for(int i = 0, j = tiles - mines; j < tiles; ++i, ++j) {
+            int tile = random.applyAsInt(j + 1);
+            if(_picked.get(tile)) {
+                tile = j;
+            }
+            _picked.set(tile);
+            _samples[i] = tile;
+        }
+        
+        // Clear only the tiles that were picked so that the next sample starts from an empty set
+        for(int i = 0; i < mines; ++i) {
+            _picked.clear(_samples[i]);
+        }
+    }
+}
\ No newline at end of file
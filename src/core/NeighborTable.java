@@ -0,0 +1,140 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package core;
+
+import java.util.Arrays;
+
+/**
+ * The neighbor table holds the offsets from a tile index to the index of each of its neighbors.
+ * 
+ * The offsets are computed once per board size for every kind of tile, that is the interior tiles,
+ * the tiles along each edge and the tiles in each corner. Enumerating the neighbors of a tile only
+ * picks the matching offsets, so no list is built and nothing is allocated:
+ * 
+ * <pre>
+ * for(int offset : table.getOffsets(index)) {
+ *     int neighbor = index + offset;
+ * }
+ * </pre>
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class NeighborTable {
+
+    /**
+     * The maximum number of neighbors that a tile can have
+     */
+    public static final int MAX_NEIGHBORS = 8;
+    
+    /**
+     * The bit indicating that a tile has a row above it
+     */
+    private static final int UP = 1;
+    
+    /**
+     * The bit indicating that a tile has a row below it
+     */
+    private static final int DOWN = 1 << 1;
+    
+    /**
+     * The bit indicating that a tile has a column to its left
+     */
+    private static final int LEFT = 1 << 2;
+    
+    /**
+     * The bit indicating that a tile has a column to its right
+     */
+    private static final int RIGHT = 1 << 3;
+    
+    /**
+     * The number of rows of the board
+     */
+    private final int _rows;
+    
+    /**
+     * The number of columns of the board
+     */
+    private final int _columns;
+    
+    /**
+     * The offsets of the neighbors of a tile, indexed by the combination of the sides where the tile has neighbors.
+     * The offsets of each entry are sorted in ascending order
+     */
+    private final int[][] _offsets = new int[RIGHT << 1][];
+    
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param rows The number of rows of the board
+     * @param columns The number of columns of the board
+     */
+    public NeighborTable(int rows, int columns) {
+        _rows = rows;
+        _columns = columns;
+        
+        for(int sides = 0; sides < _offsets.length; ++sides) {
+            int[] offsets = new int[MAX_NEIGHBORS];
+            int count = 0;
+            for(int i = (sides & UP) != 0 ? -1 : 0, rowEnd = (sides & DOWN) != 0 ? 1 : 0; i <= rowEnd; ++i) {
+                for(int j = (sides & LEFT) != 0 ? -1 : 0, columnEnd = (sides & RIGHT) != 0 ? 1 : 0; j <= columnEnd; ++j) {
+                    if(i != 0 || j != 0) {
+                        offsets[count++] = i * columns + j;
+                    }
+                }
+            }
+            _offsets[sides] = Arrays.copyOf(offsets, count);
+        }
+    }
+    
+    /**
+     * Gets the offsets from the specified tile to each of its neighbors
+     * 
+     * @param index The index of the tile
+     * 
+     * @return The offsets sorted in ascending order, adding an offset to the index of the tile gives the index of a neighbor.
+     *         The array is shared and must not be modified
+     */
+    public int[] getOffsets(int index) {
+        int row = index / _columns;
+        int column = index - row * _columns;
+        
+        int sides = 0;
+        if(row > 0) {
+            sides |= UP;
+        }
+        if(row < _rows - 1) {
+            sides |= DOWN;
+        }
+        if(column > 0) {
+            sides |= LEFT;
+        }
+        if(column < _columns - 1) {
+            sides |= RIGHT;
+        }
+        
+        return _offsets[sides];
+    }
+}
\ No newline at end of file
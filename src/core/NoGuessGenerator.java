@@ -0,0 +1,274 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The no guess generator finds boards that can be solved from the first move without ever guessing.
+ * 
+ * Candidate boards are derived from the seed of the game, and each candidate is played out by the board solver
+ * from the first move. Several candidates are verified at once on the common fork-join pool. The candidate with
+ * the lowest number that can be solved wins, so the same seed and the same first move always give the same board
+ * regardless of how many threads took part in the search.
+ * 
+ * A search can take a while on large boards, so the user interface performs it off the event dispatch thread and
+ * can cancel it when the game it was started for is abandoned. Every search is given its own cancellation flag, so
+ * that a search cancelled before it starts does not run. A generator performs one search at a time.
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class NoGuessGenerator {
+
+    /**
+     * The number of candidates after which the search gives up and falls back to the board of the seed itself
+     */
+    public static final int MAX_ATTEMPTS = 10000;
+    
+    /**
+     * The verifiers of the candidates, one for each thread taking part in the search
+     */
+    private final Verifier[] _verifiers;
+    
+    /**
+     * The number of the next candidate to verify
+     */
+    private final AtomicInteger _nextAttempt = new AtomicInteger();
+    
+    /**
+     * The lowest number of a candidate that can be solved so far
+     */
+    private final AtomicInteger _foundAttempt = new AtomicInteger();
+    
+    /**
+     * The number of candidates that have been verified by the last search
+     */
+    private final AtomicInteger _attempts = new AtomicInteger();
+    
+    /**
+     * Flag indicating if the last search found a candidate that can be solved
+     */
+    private volatile boolean _isFound;
+    
+    /**
+     * The seed of the search that is currently being performed
+     */
+    private volatile long _seed;
+    
+    /**
+     * The index of the tile of the first move of the search that is currently being performed
+     */
+    private volatile int _index;
+    
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param rows The number of rows of the board
+     * @param columns The number of columns of the board
+     * @param mines The number of mines of the board
+     */
+    public NoGuessGenerator(int rows, int columns, int mines) {
+        _verifiers = new Verifier[Math.max(1, ForkJoinPool.getCommonPoolParallelism())];
+        for(int i = 0; i < _verifiers.length; ++i) {
+            _verifiers[i] = new Verifier(rows, columns, mines);
+        }
+    }
+    
+    /**
+     * Gets the number of candidates that have been verified by the last search
+     * 
+     * @return The number of candidates verified
+     */
+    public int getAttempts() {
+        return _attempts.get();
+    }
+    
+    /**
+     * Gets if the last search found a board that can be solved without guessing
+     * 
+     * @return TRUE if a board was found, FALSE if the search gave up or was cancelled
+     */
+    public boolean isFound() {
+        return _isFound;
+    }
+    
+    /**
+     * Finds the seed of a board that can be solved from the specified first move without guessing. The board
+     * of a seed is the board that a board engine with an opening first move generates from that seed
+     * 
+     * @param seed The seed of the game, from which the candidates are derived
+     * @param index The index of the tile of the first move
+     * 
+     * @return The seed of the first candidate that can be solved, or the seed of the game if no candidate was found
+     */
+    public long findSeed(long seed, int index) {
+        return findSeed(seed, index, new AtomicBoolean());
+    }
+    
+    /**
+     * Finds the seed of a board that can be solved from the specified first move without guessing, unless the
+     * search is cancelled. Once the specified flag is set, the candidates being verified are finished and no other
+     * candidate is verified
+     * 
+     * @param seed The seed of the game, from which the candidates are derived
+     * @param index The index of the tile of the first move
+     * @param cancelled The cancellation flag of this search, it can be set from any thread
+     * 
+     * @return The seed of the first candidate that can be solved, or the seed of the game if no candidate was found
+     */
+    public long findSeed(long seed, int index, AtomicBoolean cancelled) {
+        _seed = seed;
+        _index = index;
+        _nextAttempt.set(0);
+        _foundAttempt.set(MAX_ATTEMPTS);
+        _attempts.set(0);
+        _isFound = false;
+        
+        List<ForkJoinTask<?>> tasks = new ArrayList();
+        for(Verifier verifier : _verifiers) {
+            tasks.add(new Search(verifier, cancelled));
+        }
+        ForkJoinTask.invokeAll(tasks);
+        
+        int found = _foundAttempt.get();
+        _isFound = found < MAX_ATTEMPTS;
+        return _isFound ? getCandidateSeed(seed, found) : seed;
+    }
+    
+    /**
+     * Gets the seed of the specified candidate, the first candidate is the board of the seed of the game itself
+     * 
+     * @param seed The seed of the game
+     * @param attempt The number of the candidate
+     * 
+     * @return The seed of the candidate
+     */
+    private static long getCandidateSeed(long seed, int attempt) {
+        return attempt == 0 ? seed : MineSampler.deriveSeed(seed, attempt);
+    }
+    
+    /**
+     * A search that takes the next candidate to verify until a candidate with a lower number is known to be solvable
+     * 
+     * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+     *
+     */
+    private final class Search extends RecursiveAction {
+        
+        /**
+         * The verifier used by this search
+         */
+        private final Verifier _verifier;
+        
+        /**
+         * The cancellation flag of the search
+         */
+        private final AtomicBoolean _cancelled;
+        
+        /**
+         * Constructs a new instance of this class type
+         *
+         * @param verifier The verifier used by this search
+         * @param cancelled The cancellation flag of the search
+         */
+        Search(Verifier verifier, AtomicBoolean cancelled) {
+            _verifier = verifier;
+            _cancelled = cancelled;
+        }
+        
+        @Override protected void compute() {
+            int attempt;
+            while(!_cancelled.get() && (attempt = _nextAttempt.getAndIncrement()) < _foundAttempt.get()) {
+                _attempts.incrementAndGet();
+                if(_verifier.verify(getCandidateSeed(_seed, attempt), _index)) {
+                    _foundAttempt.accumulateAndGet(attempt, Math::min);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Plays out a candidate board with the board solver
+     * 
+     * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+     *
+     */
+    private static final class Verifier {
+        
+        /**
+         * The engine of the candidate boards
+         */
+        private final BoardEngine _engine;
+        
+        /**
+         * The solver of the candidate boards
+         */
+        private final BoardSolver _solver;
+        
+        /**
+         * Constructs a new instance of this class type
+         *
+         * @param rows The number of rows of the board
+         * @param columns The number of columns of the board
+         * @param mines The number of mines of the board
+         */
+        Verifier(int rows, int columns, int mines) {
+            _engine = new BoardEngine(rows, columns, mines);
+            _engine.setFirstMoveOpening(true);
+            _solver = new BoardSolver(_engine);
+        }
+        
+        /**
+         * Verifies if the board of the specified seed can be solved from the specified first move without guessing
+         * 
+         * @param seed The seed of the board
+         * @param index The index of the tile of the first move
+         * 
+         * @return TRUE if the board can be solved without guessing, FALSE otherwise
+         */
+        boolean verify(long seed, int index) {
+            _engine.newGame(seed);
+            _engine.reveal(index);
+            
+            while(!_engine.isGameOver()) {
+                _solver.solve();
+                int safeTile = _solver.nextSafeTile();
+                if(safeTile < 0) {
+                    return false;
+                }
+                _engine.reveal(safeTile);
+            }
+            
+            return _engine.getStatus() == BoardEngine.Status.WON;
+        }
+    }
+}
\ No newline at end of file
@@ -79,6 +79,11 @@ public class PreferencesManager {
      */
     private boolean _marksEnabled;
     
+    /**
+     * The flag indicating if only boards that can be solved without guessing are generated
+     */
+    private boolean _noGuessEnabled;
+    
     /**
      * The beginner game setting
      */
@@ -248,6 +253,24 @@ public class PreferencesManager {
         return _marksEnabled;
     }
     
+    /**
+     * Stores the no guess enabled flag
+     * 
+     * @param noGuessEnabled TRUE if only boards that can be solved without guessing are generated, FALSE otherwise
+     */
+    public void setNoGuessEnabled(boolean noGuessEnabled) {
+        _noGuessEnabled = noGuessEnabled;
+    }
+    
+    /**
+     * Gets the no guess enabled flag
+     * 
+     * @return TRUE if only boards that can be solved without guessing are generated, FALSE otherwise
+     */
+    public boolean getNoGuessEnabled() {
+        return _noGuessEnabled;
+    }
+    
     /**
      * Resets the preferences manager
      */
@@ -270,6 +293,7 @@ public class PreferencesManager {
         preferences.putInt("_columns", _columns);
         preferences.putInt("_mines", _mines);
         preferences.putBoolean("_marksEnabled", _marksEnabled);
+        preferences.putBoolean("_noGuessEnabled", _noGuessEnabled);
         preferences.put("_beginnerSettingName", _beginnerSetting.getName());
         preferences.putInt("_beginnerSettingTime", _beginnerSetting.getTime());
         preferences.put("_intermediateSettingName", _intermediateSetting.getName());
@@ -295,6 +319,7 @@ public class PreferencesManager {
         _mines = preferences.getInt("_mines", 0);
         
         _marksEnabled = preferences.getBoolean("_marksEnabled", false);
+        _noGuessEnabled = preferences.getBoolean("_noGuessEnabled", false);
         
         _beginnerSetting.setHighScore(
             preferences.get("_beginnerSettingName", "Anonymous"),
@@ -0,0 +1,708 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The probability engine computes the exact probability of every covered tile of a board engine having a mine,
+ * given what a player can see.
+ * 
+ * The unknown tiles next to the frontier are split into components that do not share any numeral. The layouts
+ * of every component are enumerated on their own, in parallel when there are several of them, and counted by
+ * their number of mines. The components are then combined together along with the number of ways the mines
+ * that are left can be spread over the unknown tiles away from the frontier.
+ * 
+ * The layouts of a component only depend on its tiles and on its numerals, so the result of a component is kept
+ * from one computation to the next and only the components touched by the last move are enumerated again.
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class ProbabilityEngine {
+
+    /**
+     * The number of tiles of a component under which the component is not worth enumerating on another thread
+     */
+    private static final int PARALLEL_THRESHOLD = 12;
+    
+    /**
+     * The engine of the board
+     */
+    private final BoardEngine _engine;
+    
+    /**
+     * The board store of the engine
+     */
+    private final BoardStore _board;
+    
+    /**
+     * The solver that holds what is certainly known about the board
+     */
+    private final BoardSolver _solver;
+    
+    /**
+     * The variable of each tile next to the frontier, or -1 if the tile is not next to the frontier
+     */
+    private final int[] _variables;
+    
+    /**
+     * The natural logarithm of the factorial of every number up to the size of the board
+     */
+    private final double[] _logFactorials;
+    
+    /**
+     * The results of the components of the last computation, keyed by the layout of their tiles and numerals
+     */
+    private Map<ComponentKey, Component> _components = new HashMap<>();
+    
+    /**
+     * The number of components that have been enumerated by the last computation
+     */
+    private int _enumeratedCount;
+    
+    /**
+     * The number of components that have been re-used from a previous computation by the last computation
+     */
+    private int _cachedCount;
+    
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param engine The engine of the board
+     * @param solver The solver that listens to the engine
+     */
+    public ProbabilityEngine(BoardEngine engine, BoardSolver solver) {
+        _engine = engine;
+        _board = engine.getBoard();
+        _solver = solver;
+        _variables = new int[_board.size()];
+        _logFactorials = new double[_board.size() + 1];
+        
+        Arrays.fill(_variables, -1);
+        for(int i = 1; i < _logFactorials.length; ++i) {
+            _logFactorials[i] = _logFactorials[i - 1] + Math.log(i);
+        }
+    }
+    
+    /**
+     * Gets the number of components that have been enumerated by the last computation
+     * 
+     * @return The number of components enumerated
+     */
+    public int getEnumeratedCount() {
+        return _enumeratedCount;
+    }
+    
+    /**
+     * Gets the number of components that have been re-used from a previous computation by the last computation
+     * 
+     * @return The number of components re-used
+     */
+    public int getCachedCount() {
+        return _cachedCount;
+    }
+    
+    /**
+     * Computes the probability of every tile of the board having a mine. Revealed tiles are given NaN, and so is
+     * every tile when the board cannot be explained by any layout of mines
+     * 
+     * @param probabilities The array that receives the probability of every tile, indexed by the index of the tile
+     */
+    public void compute(double[] probabilities) {
+        _solver.solve();
+        
+        // Build the constraint of every numeral of the frontier, and give a variable to every unknown tile around them
+        TilePositionSet frontier = _solver.getFrontier();
+        List<int[]> constraints = new ArrayList<>();
+        List<Integer> tiles = new ArrayList<>();
+        for(int i = 0, size = frontier.size(); i < size; ++i) {
+            int index = frontier.get(i);
+            int[] offsets = _board.getNeighborOffsets(index);
+            int[] constraint = new int[offsets.length + 2];
+            int count = 0;
+            int remaining = _board.getNumeral(index);
+            for(int offset : offsets) {
+                int neighbor = index + offset;
+                if(_solver.isMine(neighbor)) {
+                    --remaining;
+                }
+                else if(!_solver.isSafe(neighbor)) {
+                    if(_variables[neighbor] < 0) {
+                        _variables[neighbor] = tiles.size();
+                        tiles.add(neighbor);
+                    }
+                    constraint[2 + count++] = neighbor;
+                }
+            }
+            if(count > 0) {
+                constraint[0] = remaining;
+                constraint[1] = index;
+                constraints.add(Arrays.copyOf(constraint, count + 2));
+            }
+        }
+        
+        // Join the variables that share a numeral into components
+        int[] parents = new int[tiles.size()];
+        for(int i = 0; i < parents.length; ++i) {
+            parents[i] = i;
+        }
+        for(int[] constraint : constraints) {
+            for(int i = 3; i < constraint.length; ++i) {
+                parents[find(parents, _variables[constraint[i]])] = find(parents, _variables[constraint[2]]);
+            }
+        }
+        
+        Map<Integer, List<int[]>> groups = new HashMap<>();
+        for(int[] constraint : constraints) {
+            groups.computeIfAbsent(find(parents, _variables[constraint[2]]), z -> new ArrayList<>()).add(constraint);
+        }
+        
+        // Re-use the components whose layout has not changed since the last computation and enumerate the others
+        Map<ComponentKey, Component> components = new HashMap<>();
+        List<Component> enumerations = new ArrayList<>();
+        List<Component> results = new ArrayList<>();
+        _cachedCount = 0;
+        for(List<int[]> group : groups.values()) {
+            ComponentKey key = new ComponentKey(group);
+            Component component = components.get(key);
+            if(component == null) {
+                component = _components.get(key);
+                if(component == null) {
+                    component = new Component(key);
+                    enumerations.add(component);
+                }
+                else {
+                    ++_cachedCount;
+                }
+                components.put(key, component);
+            }
+            results.add(component);
+        }
+        _components = components;
+        _enumeratedCount = enumerations.size();
+        
+        List<Component> parallel = new ArrayList<>();
+        for(Component component : enumerations) {
+            if(component.getTiles().length >= PARALLEL_THRESHOLD) {
+                parallel.add(component);
+            }
+            else {
+                component.compute();
+            }
+        }
+        if(parallel.size() == 1) {
+            parallel.get(0).compute();
+        }
+        else if(parallel.size() > 1) {
+            ForkJoinTask.invokeAll(parallel);
+        }
+        
+        for(int tile : tiles) {
+            _variables[tile] = -1;
+        }
+        
+        combine(results, tiles.size(), probabilities);
+    }
+    
+    /**
+     * Combines the results of the components with the unknown tiles away from the frontier
+     * 
+     * @param components The components of the frontier
+     * @param frontierTiles The number of unknown tiles next to the frontier
+     * @param probabilities The array that receives the probability of every tile
+     */
+    private void combine(List<Component> components, int frontierTiles, double[] probabilities) {
+        int mines = _engine.getMineCount() - _solver.getKnownMineCount();
+        int interior = _solver.getUnknownCount() - frontierTiles;
+        
+        // The weights of every number of mines held by the frontier as a whole, along with the weights of every
+        // number of mines held by all the components but one, built from the prefix and suffix products
+        int count = components.size();
+        double[][] prefixes = new double[count + 1][];
+        double[][] suffixes = new double[count + 1][];
+        prefixes[0] = new double[] { 1 };
+        suffixes[count] = new double[] { 1 };
+        for(int i = 0; i < count; ++i) {
+            prefixes[i + 1] = multiply(prefixes[i], components.get(i).getWeights());
+            suffixes[count - i - 1] = multiply(suffixes[count - i], components.get(count - i - 1).getWeights());
+        }
+        double[] frontier = prefixes[count];
+        
+        // The number of ways to spread the mines that are left over the tiles away from the frontier, relative
+        // to the largest of them so that the weights stay within the range of a double
+        double[] interiorWeights = new double[frontier.length];
+        double largest = Double.NEGATIVE_INFINITY;
+        for(int i = 0; i < frontier.length; ++i) {
+            largest = Math.max(largest, logCombinations(interior, mines - i));
+        }
+        for(int i = 0; i < frontier.length; ++i) {
+            interiorWeights[i] = Math.exp(logCombinations(interior, mines - i) - largest);
+        }
+        
+        double total = 0;
+        double interiorMines = 0;
+        for(int i = 0; i < frontier.length; ++i) {
+            total += frontier[i] * interiorWeights[i];
+            interiorMines += frontier[i] * interiorWeights[i] * (mines - i);
+        }
+        
+        // Start with every tile as either revealed, certain or away from the frontier
+        double interiorProbability = total > 0 && interior > 0 ? interiorMines / total / interior : Double.NaN;
+        for(int i = 0, size = _board.size(); i < size; ++i) {
+            if(!_board.isCovered(i)) {
+                probabilities[i] = Double.NaN;
+            }
+            else if(_solver.isMine(i)) {
+                probabilities[i] = 1;
+            }
+            else if(_solver.isSafe(i)) {
+                probabilities[i] = 0;
+            }
+            else {
+                probabilities[i] = interiorProbability;
+            }
+        }
+        
+        if(!(total > 0)) {
+            Arrays.fill(probabilities, Double.NaN);
+            return;
+        }
+        
+        // The weight of a component holding a given number of mines, once combined with every other component
+        // and with the tiles away from the frontier
+        for(int i = 0; i < count; ++i) {
+            Component component = components.get(i);
+            double[] others = multiply(prefixes[i], suffixes[i + 1]);
+            double[] weights = new double[component.getWeights().length];
+            for(int k = 0; k < weights.length; ++k) {
+                for(int j = 0; j < others.length; ++j) {
+                    weights[k] += others[j] * interiorWeights[k + j];
+                }
+            }
+            
+            int[] tiles = component.getTiles();
+            double[][] tileWeights = component.getTileWeights();
+            for(int t = 0; t < tiles.length; ++t) {
+                double weight = 0;
+                for(int k = 0; k < weights.length; ++k) {
+                    weight += tileWeights[t][k] * weights[k];
+                }
+                probabilities[tiles[t]] = weight / total;
+            }
+        }
+    }
+    
+    /**
+     * Gets the natural logarithm of the number of ways to pick the specified number of tiles
+     * 
+     * @param tiles The number of tiles to pick from
+     * @param picks The number of tiles to pick
+     * 
+     * @return The logarithm of the number of ways, or negative infinity if there is no way
+     */
+    private double logCombinations(int tiles, int picks) {
+        if(picks < 0 || picks > tiles) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        
+        return _logFactorials[tiles] - _logFactorials[picks] - _logFactorials[tiles - picks];
+    }
+    
+    /**
+     * Multiplies two polynomials whose coefficients are indexed by their power
+     * 
+     * @param first The first polynomial
+     * @param second The second polynomial
+     * 
+     * @return The product of the polynomials
+     */
+    private static double[] multiply(double[] first, double[] second) {
+        double[] product = new double[first.length + second.length - 1];
+        for(int i = 0; i < first.length; ++i) {
+            if(first[i] != 0) {
+                for(int j = 0; j < second.length; ++j) {
+                    product[i + j] += first[i] * second[j];
+                }
+            }
+        }
+        
+        return product;
+    }
+    
+    /**
+     * Finds the root of the specified variable, compressing the path along the way
+     * 
+     * @param parents The parent of every variable
+     * @param variable The variable
+     * 
+     * @return The root of the variable
+     */
+    private static int find(int[] parents, int variable) {
+        while(parents[variable] != variable) {
+            parents[variable] = parents[parents[variable]];
+            variable = parents[variable];
+        }
+        
+        return variable;
+    }
+    
+    /**
+     * The layout of a component, made of the numerals of the component ordered by the index of their tile, where
+     * every numeral holds its number of mines left and its unknown tiles
+     * 
+     * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+     *
+     */
+    private static final class ComponentKey {
+        
+        /**
+         * The constraints of the component, each one being the mines left, the index of the numeral and then its tiles
+         */
+        private final int[][] _constraints;
+        
+        /**
+         * The hash code of the layout
+         */
+        private final int _hashCode;
+        
+        /**
+         * Constructs a new instance of this class type
+         *
+         * @param constraints The constraints of the component
+         */
+        ComponentKey(List<int[]> constraints) {
+            _constraints = constraints.toArray(new int[constraints.size()][]);
+            Arrays.sort(_constraints, (first, second) -> Integer.compare(first[1], second[1]));
+            _hashCode = Arrays.deepHashCode(_constraints);
+        }
+        
+        /**
+         * Gets the constraints of the component
+         * 
+         * @return The constraints of the component
+         */
+        int[][] getConstraints() {
+            return _constraints;
+        }
+        
+        @Override public int hashCode() {
+            return _hashCode;
+        }
+        
+        @Override public boolean equals(Object object) {
+            return object instanceof ComponentKey && _hashCode == ((ComponentKey) object)._hashCode && Arrays.deepEquals(_constraints, ((ComponentKey) object)._constraints);
+        }
+    }
+    
+    /**
+     * A component of the frontier, whose layouts of mines are enumerated and counted by their number of mines.
+     * 
+     * The tiles of the component that touch the very same numerals are interchangeable, so they are enumerated
+     * together as a group by their number of mines, every number of mines of a group standing for all the ways
+     * to pick that many of its tiles
+     * 
+     * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+     *
+     */
+    private static final class Component extends RecursiveAction {
+        
+        /**
+         * The serial version of this task
+         */
+        private static final long serialVersionUID = 1L;
+        
+        /**
+         * The number of ways to pick tiles of a group, indexed by the size of the group and by the number of tiles picked
+         */
+        private static final double[][] COMBINATIONS = new double[NeighborTable.MAX_NEIGHBORS + 1][];
+        
+        static {
+            for(int n = 0; n < COMBINATIONS.length; ++n) {
+                COMBINATIONS[n] = new double[n + 1];
+                COMBINATIONS[n][0] = COMBINATIONS[n][n] = 1;
+                for(int k = 1; k < n; ++k) {
+                    COMBINATIONS[n][k] = COMBINATIONS[n - 1][k - 1] + COMBINATIONS[n - 1][k];
+                }
+            }
+        }
+        
+        /**
+         * The layout of this component
+         */
+        private final ComponentKey _key;
+        
+        /**
+         * The tiles of this component, in ascending order
+         */
+        private final int[] _tiles;
+        
+        /**
+         * The number of layouts for every number of mines
+         */
+        private double[] _weights;
+        
+        /**
+         * The number of layouts where the tile has a mine, for every tile and every number of mines
+         */
+        private double[][] _tileWeights;
+        
+        /**
+         * The constraints of every group, used while enumerating
+         */
+        private int[][] _groupConstraints;
+        
+        /**
+         * The number of tiles of every group, used while enumerating
+         */
+        private int[] _groupSizes;
+        
+        /**
+         * The number of layouts where a tile of the group has a mine, for every group and every number of mines
+         */
+        private double[][] _groupWeights;
+        
+        /**
+         * The order in which the groups are assigned, used while enumerating
+         */
+        private int[] _order;
+        
+        /**
+         * The number of mines given to every group, used while enumerating
+         */
+        private int[] _values;
+        
+        /**
+         * The number of mines left to place around every constraint, used while enumerating
+         */
+        private int[] _remaining;
+        
+        /**
+         * The number of unassigned tiles around every constraint, used while enumerating
+         */
+        private int[] _unassigned;
+        
+        /**
+         * Constructs a new instance of this class type
+         *
+         * @param key The layout of this component
+         */
+        Component(ComponentKey key) {
+            _key = key;
+            _tiles = Arrays.stream(key.getConstraints()).flatMapToInt(z -> Arrays.stream(z, 2, z.length)).distinct().sorted().toArray();
+        }
+        
+        /**
+         * Gets the tiles of this component
+         * 
+         * @return The tiles of this component, in ascending order
+         */
+        int[] getTiles() {
+            return _tiles;
+        }
+        
+        /**
+         * Gets the number of layouts for every number of mines
+         * 
+         * @return The number of layouts, indexed by their number of mines
+         */
+        double[] getWeights() {
+            return _weights;
+        }
+        
+        /**
+         * Gets the number of layouts where each tile has a mine, for every number of mines
+         * 
+         * @return The number of layouts, indexed by the position of the tile and then by the number of mines
+         */
+        double[][] getTileWeights() {
+            return _tileWeights;
+        }
+        
+        @Override protected void compute() {
+            int[][] constraints = _key.getConstraints();
+            
+            // Find the constraints of every tile, the constraints of a tile are in ascending order
+            int[] counts = new int[_tiles.length];
+            for(int[] constraint : constraints) {
+                for(int i = 2; i < constraint.length; ++i) {
+                    ++counts[Arrays.binarySearch(_tiles, constraint[i])];
+                }
+            }
+            int[][] tileConstraints = new int[_tiles.length][];
+            for(int i = 0; i < _tiles.length; ++i) {
+                tileConstraints[i] = new int[counts[i]];
+                counts[i] = 0;
+            }
+            for(int c = 0; c < constraints.length; ++c) {
+                for(int i = 2; i < constraints[c].length; ++i) {
+                    int tile = Arrays.binarySearch(_tiles, constraints[c][i]);
+                    tileConstraints[tile][counts[tile]++] = c;
+                }
+            }
+            
+            // Group the tiles that have the very same constraints
+            Map<List<Integer>, Integer> groupIndices = new HashMap<>();
+            int[] tileGroups = new int[_tiles.length];
+            List<int[]> groupConstraints = new ArrayList<>();
+            List<Integer> groupSizes = new ArrayList<>();
+            for(int i = 0; i < _tiles.length; ++i) {
+                List<Integer> signature = new ArrayList<>();
+                for(int c : tileConstraints[i]) {
+                    signature.add(c);
+                }
+                Integer group = groupIndices.get(signature);
+                if(group == null) {
+                    group = groupConstraints.size();
+                    groupIndices.put(signature, group);
+                    groupConstraints.add(tileConstraints[i]);
+                    groupSizes.add(0);
+                }
+                groupSizes.set(group, groupSizes.get(group) + 1);
+                tileGroups[i] = group;
+            }
+            int groups = groupConstraints.size();
+            _groupConstraints = groupConstraints.toArray(new int[groups][]);
+            _groupSizes = groupSizes.stream().mapToInt(z -> z).toArray();
+            
+            _remaining = new int[constraints.length];
+            _unassigned = new int[constraints.length];
+            for(int c = 0; c < constraints.length; ++c) {
+                _remaining[c] = constraints[c][0];
+                _unassigned[c] = constraints[c].length - 2;
+            }
+            
+            // Assign the groups in a breadth first order through their constraints, so that constraints are
+            // closed as early as possible and dead ends are found before going deep
+            List<List<Integer>> constraintGroups = new ArrayList<>();
+            for(int c = 0; c < constraints.length; ++c) {
+                constraintGroups.add(new ArrayList<>());
+            }
+            for(int g = 0; g < groups; ++g) {
+                for(int c : _groupConstraints[g]) {
+                    constraintGroups.get(c).add(g);
+                }
+            }
+            _order = new int[groups];
+            boolean[] ordered = new boolean[groups];
+            boolean[] visited = new boolean[constraints.length];
+            int count = 1;
+            ordered[0] = true;
+            for(int head = 0; head < count; ++head) {
+                for(int c : _groupConstraints[_order[head]]) {
+                    if(!visited[c]) {
+                        visited[c] = true;
+                        for(int group : constraintGroups.get(c)) {
+                            if(!ordered[group]) {
+                                ordered[group] = true;
+                                _order[count++] = group;
+                            }
+                        }
+                    }
+                }
+            }
+            
+            _values = new int[groups];
+            _weights = new double[_tiles.length + 1];
+            _groupWeights = new double[groups][_tiles.length + 1];
+            enumerate(0, 0, 1);
+            
+            // Every tile of a group has the same share of the mines of its group
+            _tileWeights = new double[_tiles.length][];
+            for(int i = 0; i < _tiles.length; ++i) {
+                _tileWeights[i] = _groupWeights[tileGroups[i]];
+            }
+            
+            // Only the results are kept between computations
+            _groupConstraints = null;
+            _groupSizes = null;
+            _groupWeights = null;
+            _order = null;
+            _values = null;
+            _remaining = null;
+            _unassigned = null;
+        }
+        
+        /**
+         * Enumerates every layout of the groups that are left to assign
+         * 
+         * @param depth The number of groups that have already been assigned
+         * @param mines The number of mines placed on the groups that have already been assigned
+         * @param weight The number of layouts of the tiles of the groups that have already been assigned
+         */
+        private void enumerate(int depth, int mines, double weight) {
+            if(depth == _order.length) {
+                _weights[mines] += weight;
+                for(int i = 0; i < _values.length; ++i) {
+                    if(_values[i] > 0) {
+                        _groupWeights[i][mines] += weight * _values[i] / _groupSizes[i];
+                    }
+                }
+                return;
+            }
+            
+            int group = _order[depth];
+            int size = _groupSizes[group];
+            int[] groupConstraints = _groupConstraints[group];
+            
+            for(int c : groupConstraints) {
+                _unassigned[c] -= size;
+            }
+            
+            // Try every number of mines for the group, as long as every constraint of the group can still be met
+            for(int value = 0; value <= size; ++value) {
+                boolean feasible = true;
+                for(int c : groupConstraints) {
+                    if(_remaining[c] < value || _remaining[c] - value > _unassigned[c]) {
+                        feasible = false;
+                        break;
+                    }
+                }
+                
+                if(feasible) {
+                    for(int c : groupConstraints) {
+                        _remaining[c] -= value;
+                    }
+                    _values[group] = value;
+                    enumerate(depth + 1, mines + value, weight * COMBINATIONS[size][value]);
+                    _values[group] = 0;
+                    for(int c : groupConstraints) {
+                        _remaining[c] += value;
+                    }
+                }
+            }
+            
+            for(int c : groupConstraints) {
+                _unassigned[c] += size;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package core;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+import engine.api.IData;
+import engine.core.factories.AbstractFactory;
+import engine.core.system.EngineProperties;
+import engine.core.system.EngineProperties.Property;
+import engine.utils.logging.Tracelog;
+import game.core.factories.DataFactory;
+import generated.TileMapData;
+
+/**
+ * The sprite cache slices the sprite sheet into the image of every sprite of the game.
+ * 
+ * The sprite sheet is decoded once, and the image of a sprite is sliced from it the first time that the sprite
+ * is requested. The images and icons that are handed out are shared by everyone that renders the same sprite,
+ * so they must not be modified.
+ * 
+ * Sprites are identified by the values of the generated data lookup, such as {@code BUTTON_STATE.BUTTON_FLAG}
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class SpriteCache {
+
+    /**
+     * The sprite cache singleton instance
+     */
+    private static SpriteCache _instance;
+    
+    /**
+     * The icons of the sprites that have been sliced so far
+     */
+    private final Map<Enum<?>, ImageIcon> _icons = new HashMap();
+    
+    /**
+     * The decoded sprite sheet
+     */
+    private BufferedImage _spriteSheet;
+    
+    /**
+     * The number of times that the sprite sheet has been decoded
+     */
+    private int _decodedCount;
+    
+    /**
+     * Constructs a new instance of this class type
+     */
+    private SpriteCache() {
+    }
+    
+    /**
+     * The singleton instance associated to this class
+     * 
+     * @return The singleton instance associated to this class
+     */
+    public static SpriteCache instance() {
+        if(_instance == null) {
+            _instance = new SpriteCache();
+        }
+        
+        return _instance;
+    }
+    
+    /**
+     * Gets the image of the specified sprite
+     * 
+     * @param sprite The sprite
+     * 
+     * @return The shared image of the sprite, or null if there is no sprite or if the sprite could not be found
+     */
+    public Image getImage(Enum<?> sprite) {
+        ImageIcon icon = getIcon(sprite);
+        return icon == null ? null : icon.getImage();
+    }
+    
+    /**
+     * Gets the icon of the specified sprite
+     * 
+     * @param sprite The sprite
+     * 
+     * @return The shared icon of the sprite, or null if there is no sprite or if the sprite could not be found
+     */
+    public synchronized ImageIcon getIcon(Enum<?> sprite) {
+        if(sprite == null) {
+            return null;
+        }
+        
+        ImageIcon icon = _icons.get(sprite);
+        if(icon == null) {
+            Image image = slice(sprite);
+            if(image == null) {
+                return null;
+            }
+            
+            icon = new ImageIcon(image);
+            _icons.put(sprite, icon);
+        }
+        
+        return icon;
+    }
+    
+    /**
+     * Gets the number of times that the sprite sheet has been decoded
+     * 
+     * @return The number of times that the sprite sheet has been decoded
+     */
+    public synchronized int getDecodedCount() {
+        return _decodedCount;
+    }
+    
+    /**
+     * Gets the number of sprites that have been sliced and cached
+     * 
+     * @return The number of sprites that have been sliced and cached
+     */
+    public synchronized int getCachedCount() {
+        return _icons.size();
+    }
+    
+    /**
+     * Slices the image of the specified sprite from the sprite sheet
+     * 
+     * @param sprite The sprite
+     * 
+     * @return The image of the sprite, or null if the sprite could not be found
+     */
+    private Image slice(Enum<?> sprite) {
+        
+        // The data of a sprite is found within the layer named after the type of the sprite
+        TileMapData spriteData = null;
+        for(IData data : AbstractFactory.getFactory(DataFactory.class).getByLayer(sprite.getDeclaringClass().getSimpleName())) {
+            if(data instanceof TileMapData && data.getName().equalsIgnoreCase(sprite.toString())) {
+                spriteData = (TileMapData) data;
+                break;
+            }
+        }
+        
+        if(spriteData == null) {
+            Tracelog.log(Level.WARNING, true, "Could not find the data of the sprite " + sprite);
+            return null;
+        }
+        
+        if(_spriteSheet == null) {
+            try(InputStream stream = getClass().getResourceAsStream(EngineProperties.instance().getProperty(Property.DATA_PATH_SHEET))) {
+                _spriteSheet = ImageIO.read(stream);
+                ++_decodedCount;
+            }
+            catch(IOException | IllegalArgumentException exception) {
+                Tracelog.log(Level.SEVERE, true, exception);
+                return null;
+            }
+        }
+        
+        return _spriteSheet.getSubimage(
+            (int)spriteData.getPositionTopLeft().getX(), 
+            (int)spriteData.getPositionTopLeft().getY(), 
+            spriteData.getWidth(), 
+            spriteData.getHeight()
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,223 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package core;
+
+import java.util.Arrays;
+
+/**
+ * A compact set of tile indices that can be iterated without scanning the board
+ * 
+ * Note: Membership of a tile is held by the bits of the board store, so this set does not
+ *       verify if an index is already present before adding it. The position of every tile index
+ *       is kept within a small open addressed table, sized by the number of tile indices of this set
+ *       rather than by the number of tiles of the board, so that a tile index is removed in constant time
+ *       at a cost of about three integers per tile index
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class TilePositionSet {
+
+    /**
+     * The default capacity of this set
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+    
+    /**
+     * The marker of an empty entry of the table
+     */
+    private static final int EMPTY = -1;
+    
+    /**
+     * The tile indices of this set
+     */
+    private int[] _positions = new int[DEFAULT_CAPACITY];
+    
+    /**
+     * The table of the positions of the tile indices of this set, probed linearly by tile index, where an entry
+     * is either empty or the position of a tile index. The table is twice the capacity of this set so that it is
+     * never more than half full
+     */
+    private int[] _slots = newTable(DEFAULT_CAPACITY * 2);
+    
+    /**
+     * The number of tile indices within this set
+     */
+    private int _size;
+    
+    /**
+     * Gets the number of tile indices within this set
+     * 
+     * @return The number of tile indices within this set
+     */
+    public int size() {
+        return _size;
+    }
+    
+    /**
+     * Gets the tile index at the specified position of this set
+     * 
+     * @param position The position within this set, between zero and the size of this set
+     * 
+     * @return The tile index
+     */
+    public int get(int position) {
+        return _positions[position];
+    }
+    
+    /**
+     * Copies the tile indices of this set into a new array
+     * 
+     * @return The tile indices of this set
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(_positions, _size);
+    }
+    
+    /**
+     * Adds the specified tile index to this set
+     * 
+     * @param index The tile index
+     */
+    void add(int index) {
+        if(_size == _positions.length) {
+            _positions = Arrays.copyOf(_positions, _size * 2);
+            rehash(_slots.length * 2);
+        }
+        _positions[_size] = index;
+        _slots[find(index)] = _size++;
+    }
+    
+    /**
+     * Removes the specified tile index from this set
+     * 
+     * Note: The last tile index of this set takes the place of the tile index being removed
+     * 
+     * @param index The tile index
+     */
+    void remove(int index) {
+        int entry = find(index);
+        if(_slots[entry] == EMPTY) {
+            return;
+        }
+        
+        int slot = _slots[entry];
+        delete(entry);
+        
+        int last = _positions[--_size];
+        if(last != index) {
+            _positions[slot] = last;
+            _slots[find(last)] = slot;
+        }
+    }
+    
+    /**
+     * Removes all the tile indices from this set
+     */
+    void clear() {
+        Arrays.fill(_slots, EMPTY);
+        _size = 0;
+    }
+    
+    /**
+     * Gets the entry of the table that holds the position of the specified tile index, or the empty entry where
+     * it would be held
+     * 
+     * @param index The tile index
+     * 
+     * @return The entry of the table
+     */
+    private int find(int index) {
+        int mask = _slots.length - 1;
+        int entry = hash(index) & mask;
+        while(_slots[entry] != EMPTY && _positions[_slots[entry]] != index) {
+            entry = (entry + 1) & mask;
+        }
+        
+        return entry;
+    }
+    
+    /**
+     * Empties the specified entry of the table, shifting back the entries that follow it so that
+     * every tile index can still be found by probing from its hash
+     * 
+     * @param entry The entry of the table
+     */
+    private void delete(int entry) {
+        int mask = _slots.length - 1;
+        int next = entry;
+        while(true) {
+            next = (next + 1) & mask;
+            if(_slots[next] == EMPTY) {
+                break;
+            }
+            
+            // An entry can only move back if its hash does not lie cyclically between the empty entry and itself
+            int home = hash(_positions[_slots[next]]) & mask;
+            if(entry <= next ? (home <= entry || home > next) : (home <= entry && home > next)) {
+                _slots[entry] = _slots[next];
+                entry = next;
+            }
+        }
+        _slots[entry] = EMPTY;
+    }
+    
+    /**
+     * Grows the table to the specified number of entries, putting back every tile index of this set
+     * 
+     * @param length The number of entries of the table, a power of two
+     */
+    private void rehash(int length) {
+        _slots = newTable(length);
+        for(int i = 0; i < _size; ++i) {
+            _slots[find(_positions[i])] = i;
+        }
+    }
+    
+    /**
+     * Creates an empty table with the specified number of entries
+     * 
+     * @param length The number of entries of the table
+     * 
+     * @return The table
+     */
+    private static int[] newTable(int length) {
+        int[] table = new int[length];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+    
+    /**
+     * Spreads the bits of the specified tile index, so that neighboring tile indices do not cluster within the table
+     * 
+     * @param index The tile index
+     * 
+     * @return The hash of the tile index
+     */
+    private static int hash(int index) {
+        int hash = index * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
\ No newline at end of file
@@ -24,34 +24,58 @@
 
 package entities;
 
+import java.awt.Image;
+
+import core.BoardStore;
 import core.GameSettings;
+import core.SpriteCache;
 import generated.DataLookup.BUTTON_STATE;
 
 /**
  * This class is associated to the button state of a singular entity
  * 
+ * Note: The state of this entity is held by the board store, this entity only
+ *       provides a view over a single tile of that store
+ * 
  * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
  *
  */
 public final class ButtonStateEntity extends AbstractGameEntity {
     
     /**
-     * The current button state of this entity
+     * The board store that holds the state of this entity
      */
-    private BUTTON_STATE _currentButtonState = BUTTON_STATE.BUTTON_BLANK;
-
+    private final BoardStore _board;
+    
     /**
-     * A flag indicating if this entity's state is enabled
-     * 
-     * Note: By default the state should be set to enabled
+     * The index of the tile within the board store
      */
-    private boolean _isEnabled = true;
+    private final int _index;
     
     /**
      * Constructs a new instance of this class type
+     * 
+     * @param board The board store that holds the state of this entity
+     * @param index The index of the tile within the board store
      */
-    public ButtonStateEntity() {
-        setActiveData(_currentButtonState);
+    public ButtonStateEntity(BoardStore board, int index) {
+        _board = board;
+        _index = index;
+    }
+    
+    /**
+     * Gets the current button state of this entity
+     * 
+     * @return The current button state of this entity
+     */
+    public BUTTON_STATE getButtonState() {
+        if(_board.isFlagged(_index)) {
+            return BUTTON_STATE.BUTTON_FLAG;
+        }
+        if(_board.isMarked(_index)) {
+            return BUTTON_STATE.BUTTON_MARK;
+        }
+        return BUTTON_STATE.BUTTON_BLANK;
     }
     
     /**
@@ -60,7 +84,7 @@ public final class ButtonStateEntity extends AbstractGameEntity {
      * @return TRUE if this entity is empty, FALSE otherwise
      */
     public boolean isEmpty() {
-        return _currentButtonState == BUTTON_STATE.BUTTON_BLANK;
+        return !_board.isFlagged(_index) && !_board.isMarked(_index);
     }
     
     /**
@@ -69,7 +93,7 @@ public final class ButtonStateEntity extends AbstractGameEntity {
      * @return TRUE if this button is in a flagged state, FALSE otherwise
      */
     public boolean isFlagged() {
-        return _currentButtonState == BUTTON_STATE.BUTTON_FLAG;
+        return _board.isFlagged(_index);
     }
     
     /**
@@ -78,7 +102,7 @@ public final class ButtonStateEntity extends AbstractGameEntity {
      * @return TRUE if this button is in a marked state, FALSE otherwise
      */
     public boolean isMark() {
-        return _currentButtonState == BUTTON_STATE.BUTTON_MARK;
+        return _board.isMarked(_index);
     }
     
     /**
@@ -87,7 +111,7 @@ public final class ButtonStateEntity extends AbstractGameEntity {
      * @return True if this entity is enabled, false otherwise
      */
     public boolean isEnabled() {
-        return _isEnabled;
+        return _board.isCovered(_index);
     }
     
     /**
@@ -96,28 +120,26 @@ public final class ButtonStateEntity extends AbstractGameEntity {
      * @param isEnabled The enabled state to set this entity to
      */
     public void setIsButtonEnabled(boolean isEnabled) {
-        _isEnabled = isEnabled;
+        _board.setCovered(_index, isEnabled);
     }
     
     /**
      * Changes the state of this button to the next available state
      */
     public void changeState() {
-        switch(_currentButtonState) {
+        switch(getButtonState()) {
         case BUTTON_BLANK:
-            _currentButtonState = BUTTON_STATE.BUTTON_FLAG;
+            changeState(BUTTON_STATE.BUTTON_FLAG);
             break;
         case BUTTON_FLAG:
-            _currentButtonState = GameSettings.MARKS_ENABLED ? BUTTON_STATE.BUTTON_MARK : BUTTON_STATE.BUTTON_BLANK;
+            changeState(GameSettings.MARKS_ENABLED ? BUTTON_STATE.BUTTON_MARK : BUTTON_STATE.BUTTON_BLANK);
             break;
         case BUTTON_MARK:
-            _currentButtonState = BUTTON_STATE.BUTTON_BLANK;
+            changeState(BUTTON_STATE.BUTTON_BLANK);
             break;
         default:
             return;
         }
-        
-        setActiveData(_currentButtonState);
     }
     
     /**
@@ -126,13 +148,16 @@ public final class ButtonStateEntity extends AbstractGameEntity {
      * @param buttonState The button state to set to
      */
     public void changeState(BUTTON_STATE buttonState) {
-        _currentButtonState = buttonState;
-        setActiveData(_currentButtonState);
+        _board.setFlagged(_index, buttonState == BUTTON_STATE.BUTTON_FLAG);
+        _board.setMarked(_index, buttonState == BUTTON_STATE.BUTTON_MARK);
+    }
+    
+    @Override public Image getRenderableContent() {
+        return SpriteCache.instance().getImage(getButtonState());
     }
     
     @Override public void reset() {
         setIsButtonEnabled(true);
-        _currentButtonState = BUTTON_STATE.BUTTON_BLANK;
-        setActiveData(_currentButtonState);
+        changeState(BUTTON_STATE.BUTTON_BLANK);
     }
 }
\ No newline at end of file
@@ -24,6 +24,9 @@
 
 package entities;
 
+import java.awt.Image;
+
+import core.SpriteCache;
 import generated.DataLookup.GAME_STATE;
 
 /**
@@ -38,13 +41,6 @@ public class GameStateEntity extends AbstractGameEntity {
      * The current game state of the game
      */
     private GAME_STATE _currentGameState = GAME_STATE.GAME_RUNNING;
-    
-    /**
-     * Constructs a new instance of this class type
-     */
-    public GameStateEntity() {
-        setActiveData(_currentGameState);
-    }
    
     /**
      * Gets the game state entity value
@@ -62,6 +58,9 @@ public class GameStateEntity extends AbstractGameEntity {
      */
     public void setGameState(GAME_STATE gameState) {
         _currentGameState = gameState;
-        setActiveData(gameState);
+    }
+    
+    @Override public Image getRenderableContent() {
+        return SpriteCache.instance().getImage(_currentGameState);
     }
 }
\ No newline at end of file
@@ -24,13 +24,9 @@
 
 package entities;
 
-import java.awt.Graphics;
-import java.awt.image.BufferedImage;
-import java.util.List;
 import java.util.logging.Level;
 
 import application.MainApplication;
-import engine.core.graphics.RawData;
 import engine.utils.logging.Tracelog;
 import generated.DataLookup;
 
@@ -107,30 +103,6 @@ public class GameTimerEntity extends AbstractGameEntity {
         setNumeralImpl();            
     }
     
-    /**
-     * Flattens the specified entities into a singular piece of data
-     * 
-     * @param entities The entities to flatten
-     * 
-     * @return The raw data representation of the entities specified
-     */
-    public static RawData flattenData(List<GameTimerEntity> entities) {
-        
-        int width = entities.parallelStream().map(z -> z.getRenderableContent()).mapToInt(z -> z.getWidth(null)).sum();
-        int height = entities.get(0).getRenderableContent().getHeight(null);
-        
-        BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-        Graphics graphics = img.getGraphics();
-        
-        int xOffset = 0;
-        for(GameTimerEntity entity : entities) {
-            graphics.drawImage(entity.getRenderableContent(), xOffset, 0, null);
-            xOffset = xOffset + entity.getRenderableContent().getWidth(null);
-        }
-        
-        return new RawData(img);
-    }
-
     /**
      * The set numeral implementation
      */
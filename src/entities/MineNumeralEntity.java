@@ -24,25 +24,48 @@
 
 package entities;
 
+import java.awt.Image;
+
+import core.BoardStore;
+import core.SpriteCache;
 import generated.DataLookup.MINE_NUMBER;
 
 /**
  * This class represents the data associated to a numeral entity
  * 
+ * Note: The numeral of this entity is held by the board store, this entity only
+ *       provides a view over a single tile of that store
+ * 
  * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
  *
  */
 public final class MineNumeralEntity extends AbstractGameEntity {
     
     /**
-     * The numeral of this entity
+     * The list of mine numbers, where the index of the array is the numeral minus one
+     */
+    private static final MINE_NUMBER[] MINE_NUMBERS = MINE_NUMBER.values();
+    
+    /**
+     * The board store that holds the numeral of this entity
+     */
+    private final BoardStore _board;
+    
+    /**
+     * The index of the tile within the board store
      */
-    private int _numeral;
+    private final int _index;
     
     /**
-     * The constant field associated to the mine numeral
+     * Constructs a new instance of this class type
+     * 
+     * @param board The board store that holds the numeral of this entity
+     * @param index The index of the tile within the board store
      */
-    private static final String BOMB = "BOMB_";
+    public MineNumeralEntity(BoardStore board, int index) {
+        _board = board;
+        _index = index;
+    }
     
     /**
      * Sets the numeral of the mine
@@ -50,13 +73,7 @@ public final class MineNumeralEntity extends AbstractGameEntity {
      * @param numeral The numeral of the mine
      */
     public void setNumeral(int numeral) {
-        _numeral = numeral;
-        if(numeral <= 0) {
-            setActiveData(null);
-        }
-        else {
-            setActiveData(MINE_NUMBER.valueOf(BOMB + numeral));    
-        }
+        _board.setNumeral(_index, Math.max(numeral, 0));
     }
     
     /**
@@ -65,7 +82,12 @@ public final class MineNumeralEntity extends AbstractGameEntity {
      * @return The numeral representation of thi entity
      */
     public int getNumeral() {
-        return _numeral;
+        return _board.getNumeral(_index);
+    }
+    
+    @Override public Image getRenderableContent() {
+        int numeral = getNumeral();
+        return numeral <= 0 ? null : SpriteCache.instance().getImage(MINE_NUMBERS[numeral - 1]);
     }
     
     @Override public void reset() {
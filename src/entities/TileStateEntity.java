@@ -26,25 +26,47 @@ package entities;
 
 import java.awt.Image;
 
+import core.BoardStore;
+import core.SpriteCache;
 import generated.DataLookup.TILE_STATE;
 
 /**
  * Represents a tile state entity that holds all the contents of a singular data entity in the game
  * 
+ * Note: The state of this entity is held by the board store, this entity only
+ *       provides a view over a single tile of that store
+ * 
  * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
  *
  */
 public final class TileStateEntity extends AbstractGameEntity {
-        
+    
+    /**
+     * The board store that holds the state of this entity
+     */
+    private final BoardStore _board;
+    
+    /**
+     * The index of the tile within the board store
+     */
+    private final int _index;
+    
     /**
      * Hold a reference to any potential numeral entities within this tile
      */
-    private final MineNumeralEntity _tileNumeralEntity = new MineNumeralEntity();
+    private final MineNumeralEntity _tileNumeralEntity;
 
     /**
-     * The currently active state of this entity
+     * Constructs a new instance of this class type
+     * 
+     * @param board The board store that holds the state of this entity
+     * @param index The index of the tile within the board store
      */
-    private TILE_STATE _tileState = null;
+    public TileStateEntity(BoardStore board, int index) {
+        _board = board;
+        _index = index;
+        _tileNumeralEntity = new MineNumeralEntity(board, index);
+    }
     
     /**
      * Gets the mine numeral entity associated to this entity
@@ -56,26 +78,58 @@ public final class TileStateEntity extends AbstractGameEntity {
     }
 
     /**
-     * Gets if this entity is in a 'bomb revealed' state
+     * Gets if this entity holds a mine
      * 
-     * @return TRUE if this entity is in a 'bomb revealed' state, FALSE otherwise
+     * @return TRUE if this entity holds a mine, FALSE otherwise
      */
     public boolean hasMine() {
-        return _tileState == TILE_STATE.BOMB_REVEALED;
+        return _board.hasMine(_index);
+    }
+    
+    /**
+     * Gets the current state of this entity
+     * 
+     * @return The current state of this entity, or null if there is no state
+     */
+    public TILE_STATE getTileState() {
+        if(_board.hasMine(_index)) {
+            return _board.getDetonatedIndex() == _index ? TILE_STATE.BOMB_CLICKED : TILE_STATE.BOMB_REVEALED;
+        }
+        if(_board.isMisflagged(_index)) {
+            return TILE_STATE.BOMB_MISFLAGGED;
+        }
+        return null;
     }
 
     /**
      * Sets the current state of this entity
      * 
+     * Note: A misflagged state is derived from the tile being flagged and uncovered without a mine, so
+     *       setting it explicitly only clears the mine of this tile
+     * 
      * @param tileState The state to set this entity to
      */
     public void setTileState(TILE_STATE tileState) {
+        if(tileState == null) {
+            _board.setMine(_index, false);
+            if(_board.getDetonatedIndex() == _index) {
+                _board.setDetonatedIndex(-1);
+            }
+            return;
+        }
         
-        // Call the super functionality
-        super.setActiveData(tileState);
-        
-        // Store a reference to the current state for further use
-        _tileState = tileState;
+        switch(tileState) {
+        case BOMB_CLICKED:
+            _board.setMine(_index, true);
+            _board.setDetonatedIndex(_index);
+            break;
+        case BOMB_REVEALED:
+            _board.setMine(_index, true);
+            break;
+        case BOMB_MISFLAGGED:
+            _board.setMine(_index, false);
+            break;
+        }
     }
 
     /**
@@ -84,19 +138,16 @@ public final class TileStateEntity extends AbstractGameEntity {
      * @return TRUE if this entity and all of its associated entities are empty, FALSE otherwise
      */
     public boolean isEmpty() {
-        return !(hasActiveData() || _tileNumeralEntity.hasActiveData());
+        return _board.isEmpty(_index);
     }
     
     @Override public Image getRenderableContent() {
-        
-        if(hasActiveData()) {
-            return super.getRenderableContent();
-        }
-        if(_tileNumeralEntity.hasActiveData()) {
-            return _tileNumeralEntity.getRenderableContent();
+        TILE_STATE tileState = getTileState();
+        if(tileState != null) {
+            return SpriteCache.instance().getImage(tileState);
         }
         
-        return null;
+        return _tileNumeralEntity.getRenderableContent();
     }
     
     @Override public void reset() {
@@ -0,0 +1,771 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+import core.BoardEngine;
+import engine.utils.logging.Tracelog;
+import replay.Replay;
+import replay.ReplayCodec;
+import replay.ReplayRecorder;
+
+/**
+ * The game journal persists the game being played so that it can be resumed if the application goes away
+ * in the middle of a game.
+ * 
+ * Every move is appended to a journal, and a snapshot of the board is written as a {@link SaveFile} every so often
+ * after which the journal starts over. A game is restored from its last snapshot followed by the moves of the journal.
+ * 
+ * Recording a move only appends it to a buffer in memory, and taking a snapshot only copies the state of the tiles.
+ * The buffer is written by a background thread which syncs the journal to the disk once for every group of moves,
+ * and which encodes and writes the snapshots, so the user interface never waits on the disk. Every group of moves
+ * is written as a record made of its length, its checksum and its moves, so that a record that was not completely
+ * written when the application went away is detected and ignored along with everything after it.
+ * Every snapshot is written into a file of its own named after its generation, since a snapshot is memory mapped
+ * and a mapped file cannot be replaced on Windows. The journal starts with the generation of the snapshot it
+ * follows, and the new journal replaces the previous one at once after the snapshot is written, so that the journal
+ * on the disk always names a complete snapshot. The older snapshots are then deleted, those that cannot be deleted
+ * yet because they are still mapped are deleted along with the next snapshot.
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class GameJournal {
+
+    /**
+     * The directory of the journal
+     */
+    public static final Path JOURNAL_DIRECTORY = ReplayRecorder.SAVES_DIRECTORY.resolve("journal");
+    
+    /**
+     * The extension of the files of the snapshots
+     */
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+    
+    /**
+     * The file of the journal
+     */
+    private static final Path JOURNAL_FILE = JOURNAL_DIRECTORY.resolve("game.journal");
+    
+    /**
+     * The bytes that start a journal
+     */
+    private static final int JOURNAL_MAGIC = 0x4D534A4E;
+    
+    /**
+     * The version of the layout of the journal
+     */
+    private static final int VERSION = 3;
+    
+    /**
+     * The number of bits of a journaled event that hold its type
+     */
+    private static final int TYPE_BITS = 3;
+    
+    /**
+     * The number of bytes of the length and the checksum that start every record of the journal
+     */
+    private static final int RECORD_HEADER_SIZE = 8;
+    
+    /**
+     * The time between two writes of the journal, in milliseconds
+     */
+    private static final long FLUSH_INTERVAL = 200;
+    
+    /**
+     * The number of events after which a new snapshot is taken
+     */
+    private static final int SNAPSHOT_EVENTS = 256;
+    
+    /**
+     * The time after which a new snapshot is taken, in nanoseconds
+     */
+    private static final long SNAPSHOT_INTERVAL = TimeUnit.SECONDS.toNanos(30);
+    
+    /**
+     * The game journal singleton instance
+     */
+    private static GameJournal _instance;
+    
+    /**
+     * The thread that writes the journal and the snapshots
+     */
+    private final ScheduledExecutorService _writer = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "Game Journal");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    /**
+     * The lock that guards what is handed from the user interface to the writer
+     */
+    private final Object _lock = new Object();
+    
+    /**
+     * The events waiting to be written, the tile of every event shifted left of its type
+     */
+    private long[] _pendingEvents = new long[64];
+    
+    /**
+     * The time elapsed before every event waiting to be written, in nanoseconds
+     */
+    private long[] _pendingDeltas = new long[64];
+    
+    /**
+     * The number of events waiting to be written
+     */
+    private int _pendingCount;
+    
+    /**
+     * If a snapshot is waiting to be written
+     */
+    private boolean _hasPendingSnapshot;
+    
+    /**
+     * If the files of the journal are waiting to be deleted
+     */
+    private boolean _isDeletePending;
+    
+    /**
+     * If the writer could not write what was journaled, so that the next event must take a snapshot
+     */
+    private volatile boolean _isSnapshotRequired;
+    
+    /**
+     * The snapshot waiting to be written
+     */
+    private Snapshot _pendingSnapshot = new Snapshot();
+    
+    /**
+     * The engine of the game being journaled, or null if there is no game being journaled
+     */
+    private BoardEngine _engine;
+    
+    /**
+     * If anything has been journaled for the game being journaled
+     */
+    private boolean _isWritten;
+    
+    /**
+     * The number of events journaled since the last snapshot, or -1 if no snapshot has been taken yet
+     */
+    private int _snapshotEvents = -1;
+    
+    /**
+     * The time of the last snapshot, in nanoseconds
+     */
+    private long _snapshotTime;
+    
+    /**
+     * The time of the last event or snapshot, in nanoseconds
+     */
+    private long _lastTime;
+    
+    /**
+     * The time when the game timer started, in nanoseconds, or -1 if the timer has not started
+     */
+    private long _timerStart = -1;
+    
+    /**
+     * The events being written, swapped with the pending events by the writer
+     */
+    private long[] _writtenEvents = new long[64];
+    
+    /**
+     * The time elapsed before every event being written, swapped with the pending deltas by the writer
+     */
+    private long[] _writtenDeltas = new long[64];
+    
+    /**
+     * The snapshot being written, swapped with the pending snapshot by the writer
+     */
+    private Snapshot _writtenSnapshot = new Snapshot();
+    
+    /**
+     * The buffer that the records of the journal are encoded into by the writer
+     */
+    private final ByteArrayOutputStream _buffer = new ByteArrayOutputStream();
+    
+    /**
+     * The checksum of the records of the journal, computed by the writer
+     */
+    private final CRC32 _checksum = new CRC32();
+    
+    /**
+     * The channel of the journal, or null if the journal is not opened
+     */
+    private FileChannel _journal;
+    
+    /**
+     * The generation of the last snapshot written
+     */
+    private long _generation;
+    
+    /**
+     * Constructs a new instance of this class type
+     */
+    private GameJournal() {
+        _writer.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL, FLUSH_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * The singleton instance associated to this class
+     * 
+     * @return The singleton instance associated to this class
+     */
+    public static GameJournal instance() {
+        if(_instance == null) {
+            _instance = new GameJournal();
+        }
+        
+        return _instance;
+    }
+    
+    /**
+     * Starts journaling the game of the specified engine. The previous game is deleted if anything was journaled
+     * for it. Nothing is written for the new game until its first event, so that a saved game is kept until
+     * a move is made
+     * 
+     * @param engine The engine
+     * @param elapsed The time elapsed since the game timer started in nanoseconds, or -1 if the timer has not started
+     */
+    public void start(BoardEngine engine, long elapsed) {
+        if(_isWritten) {
+            discard();
+        }
+        
+        long time = System.nanoTime();
+        _engine = engine;
+        _snapshotEvents = -1;
+        _timerStart = elapsed < 0 ? -1 : time - elapsed;
+    }
+    
+    /**
+     * Starts journaling the specified engine which holds a saved game that was resumed. The files of the journal
+     * belong to the resumed game, they are kept until its first event and deleted if another game is started
+     * 
+     * @param engine The engine
+     * @param elapsed The time elapsed since the game timer started in nanoseconds, or -1 if the timer has not started
+     */
+    public void resume(BoardEngine engine, long elapsed) {
+        start(engine, elapsed);
+        _isWritten = true;
+    }
+    
+    /**
+     * Journals an event of the game being played, taking a snapshot of the board beforehand if one is due
+     * 
+     * @param type The type of the event
+     * @param tile The tile of the event
+     */
+    public void record(int type, int tile) {
+        if(_engine == null) {
+            return;
+        }
+        
+        long time = System.nanoTime();
+        if(_snapshotEvents < 0 || _snapshotEvents >= SNAPSHOT_EVENTS || time - _snapshotTime >= SNAPSHOT_INTERVAL || _isSnapshotRequired) {
+            snapshot(time);
+        }
+        
+        // The game timer starts with the first reveal or flag of the player
+        if(_timerStart < 0 && (type == Replay.REVEAL || type == Replay.FLAG || type == Replay.MARK)) {
+            _timerStart = time;
+        }
+        
+        synchronized(_lock) {
+            if(_pendingCount == _pendingEvents.length) {
+                _pendingEvents = Arrays.copyOf(_pendingEvents, _pendingCount * 2);
+                _pendingDeltas = Arrays.copyOf(_pendingDeltas, _pendingCount * 2);
+            }
+            _pendingEvents[_pendingCount] = ((long)tile << TYPE_BITS) | type;
+            _pendingDeltas[_pendingCount] = time - _lastTime;
+            ++_pendingCount;
+        }
+        
+        _lastTime = time;
+        ++_snapshotEvents;
+    }
+    
+    /**
+     * Ends the game being journaled, its files are deleted since there is nothing left to resume
+     */
+    public void finish() {
+        if(_isWritten) {
+            discard();
+        }
+        
+        _engine = null;
+    }
+    
+    /**
+     * Deletes the files of the journal, whether they belong to the game being journaled or to a saved game
+     */
+    public void discard() {
+        synchronized(_lock) {
+            _pendingCount = 0;
+            _hasPendingSnapshot = false;
+            _isDeletePending = true;
+        }
+        
+        _isWritten = false;
+        _snapshotEvents = -1;
+    }
+    
+    /**
+     * Writes what is waiting to be written and stops the writer, this does not wait for the writer
+     */
+    public void close() {
+        _writer.execute(this::flush);
+        _writer.shutdown();
+    }
+    
+    /**
+     * Takes a snapshot of the board, the events that are waiting to be written are part of the snapshot.
+     * Only the state of the board is copied, the snapshot is encoded and written by the writer
+     * 
+     * @param time The time of the snapshot, in nanoseconds
+     */
+    private void snapshot(long time) {
+        _isSnapshotRequired = false;
+        synchronized(_lock) {
+            _pendingSnapshot.take(_engine, _timerStart < 0 ? -1 : time - _timerStart);
+            _pendingCount = 0;
+            _hasPendingSnapshot = true;
+            _isDeletePending = false;
+        }
+        
+        _isWritten = true;
+        _snapshotEvents = 0;
+        _snapshotTime = time;
+        _lastTime = time;
+    }
+    
+    /**
+     * Writes what is waiting to be written and syncs it to the disk, this is done by the writer
+     */
+    private void flush() {
+        boolean hasSnapshot;
+        boolean isDelete;
+        int count;
+        synchronized(_lock) {
+            hasSnapshot = _hasPendingSnapshot;
+            isDelete = _isDeletePending;
+            count = _pendingCount;
+            
+            if(hasSnapshot) {
+                Snapshot snapshot = _pendingSnapshot;
+                _pendingSnapshot = _writtenSnapshot;
+                _writtenSnapshot = snapshot;
+            }
+            
+            long[] events = _pendingEvents;
+            long[] deltas = _pendingDeltas;
+            _pendingEvents = _writtenEvents.length >= events.length ? _writtenEvents : new long[events.length];
+            _pendingDeltas = _writtenDeltas.length >= deltas.length ? _writtenDeltas : new long[deltas.length];
+            _writtenEvents = events;
+            _writtenDeltas = deltas;
+            
+            _hasPendingSnapshot = false;
+            _isDeletePending = false;
+            _pendingCount = 0;
+        }
+        
+        try {
+            if(isDelete) {
+                delete();
+            }
+            if(hasSnapshot) {
+                writeSnapshot(_writtenSnapshot.toSavedGame());
+            }
+            
+            if(count > 0 && _journal != null) {
+                
+                // The length and the checksum of the record are filled in once its events are encoded
+                _buffer.reset();
+                _buffer.write(new byte[RECORD_HEADER_SIZE]);
+                for(int i = 0; i < count; ++i) {
+                    ReplayCodec.writeVarint(_buffer, _writtenEvents[i]);
+                    ReplayCodec.writeVarint(_buffer, _writtenDeltas[i]);
+                }
+                
+                byte[] record = _buffer.toByteArray();
+                _checksum.reset();
+                _checksum.update(record, RECORD_HEADER_SIZE, record.length - RECORD_HEADER_SIZE);
+                ByteBuffer.wrap(record).putInt(record.length - RECORD_HEADER_SIZE).putInt((int) _checksum.getValue());
+                
+                write(_journal, record);
+                _journal.force(false);
+            }
+        }
+        catch(IOException exception) {
+            Tracelog.log(Level.SEVERE, true, exception);
+            invalidate();
+        }
+    }
+    
+    /**
+     * Deletes the files of the journal after what was journaled could not be written, and has the next event take
+     * a snapshot. The files would otherwise hold a game that is missing the moves that were lost, and the moves
+     * that follow would be dropped until the next snapshot. This is done by the writer
+     */
+    private void invalidate() {
+        _isSnapshotRequired = true;
+        try {
+            delete();
+        }
+        catch(IOException exception) {
+            Tracelog.log(Level.SEVERE, true, exception);
+        }
+    }
+    
+    /**
+     * Writes the specified snapshot and starts the journal over, this is done by the writer
+     * 
+     * @param snapshot The snapshot
+     * 
+     * @throws IOException If the snapshot or the journal could not be written
+     */
+    private void writeSnapshot(SavedGame snapshot) throws IOException {
+        Files.createDirectories(JOURNAL_DIRECTORY);
+        _generation = Math.max(_generation + 1, System.currentTimeMillis());
+        
+        Path snapshotFile = getSnapshotFile(_generation);
+        SaveFile saveFile = new SaveFile(snapshotFile);
+        saveFile.setGeneration(_generation);
+        saveFile.write(snapshot);
+        
+        // Start the journal over, the events that it held are part of the snapshot. The new journal replaces the
+        // previous one at once, so that there is always a journal naming a complete snapshot on the disk
+        closeJournal();
+        Path temporary = JOURNAL_DIRECTORY.resolve("game.journal.tmp");
+        _journal = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(16);
+        header.putInt(JOURNAL_MAGIC).putInt(VERSION).putLong(_generation).flip();
+        while(header.hasRemaining()) {
+            _journal.write(header);
+        }
+        _journal.force(true);
+        Files.move(temporary, JOURNAL_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        
+        deleteSnapshots(snapshotFile);
+    }
+    
+    /**
+     * Gets the file of the snapshot of the specified generation
+     * 
+     * @param generation The generation of the snapshot
+     * 
+     * @return The file of the snapshot
+     */
+    private static Path getSnapshotFile(long generation) {
+        return JOURNAL_DIRECTORY.resolve(String.format("game-%016x%s", generation, SNAPSHOT_EXTENSION));
+    }
+    
+    /**
+     * Deletes the files of the snapshots other than the specified one. A snapshot that cannot be deleted, because
+     * it is still mapped, is left for the next time. This is done by the writer
+     * 
+     * @param snapshotFile The file of the snapshot to keep, or null to delete every snapshot
+     * 
+     * @throws IOException If the directory of the journal could not be listed
+     */
+    private static void deleteSnapshots(Path snapshotFile) throws IOException {
+        if(!Files.isDirectory(JOURNAL_DIRECTORY)) {
+            return;
+        }
+        
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(JOURNAL_DIRECTORY, "game-*" + SNAPSHOT_EXTENSION)) {
+            for(Path path : stream) {
+                if(!path.equals(snapshotFile)) {
+                    try {
+                        Files.deleteIfExists(path);
+                    }
+                    catch(IOException exception) {
+                        Tracelog.log(Level.WARNING, true, "Could not delete the snapshot " + path.getFileName() + ": " + exception.getMessage());
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Deletes the files of the journal, this is done by the writer. Without its journal a snapshot is never loaded,
+     * so a snapshot that cannot be deleted yet does not bring back the game
+     * 
+     * @throws IOException If the journal could not be deleted
+     */
+    private void delete() throws IOException {
+        closeJournal();
+        Files.deleteIfExists(JOURNAL_FILE);
+        deleteSnapshots(null);
+    }
+    
+    /**
+     * Closes the channel of the journal, this is done by the writer
+     */
+    private void closeJournal() {
+        if(_journal != null) {
+            try {
+                _journal.close();
+            }
+            catch(IOException exception) {
+                Tracelog.log(Level.WARNING, true, exception);
+            }
+            _journal = null;
+        }
+    }
+    
+    /**
+     * Writes the specified bytes into the specified channel
+     * 
+     * @param channel The channel
+     * @param bytes The bytes
+     * 
+     * @throws IOException If the bytes could not be written
+     */
+    private static void write(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while(buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+    
+    /**
+     * Loads the game that was saved, if any. The events of the journal are read up to the last record that is
+     * complete and intact, the events that were not completely written when the application went away are lost
+     * 
+     * @return The saved game, or null if there is no saved game or if the saved game could not be read
+     */
+    public static SavedGame load() {
+        if(!Files.exists(JOURNAL_FILE)) {
+            return null;
+        }
+        
+        try(DataInputStream stream = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(JOURNAL_FILE)))) {
+            if(stream.available() < 16 || stream.readInt() != JOURNAL_MAGIC || stream.readInt() != VERSION) {
+                return null;
+            }
+            
+            // The journal names the snapshot that it follows
+            long generation = stream.readLong();
+            SaveFile saveFile = new SaveFile(getSnapshotFile(generation));
+            SavedGame savedGame = saveFile.read();
+            if(saveFile.getGeneration() != generation) {
+                throw new IOException("The snapshot does not match the journal");
+            }
+            readJournal(stream, savedGame);
+            
+            // A game that ended before its files could be deleted has nothing left to resume
+            BoardEngine engine = new BoardEngine(savedGame.getRows(), savedGame.getColumns(), savedGame.getMines());
+            savedGame.restore(engine);
+            if(engine.isGameOver()) {
+                return null;
+            }
+            
+            return savedGame;
+        }
+        catch(IOException | RuntimeException exception) {
+            Tracelog.log(Level.WARNING, true, "Could not load the saved game: " + exception.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Reads the events of the records of the journal into the specified saved game. The records are read until
+     * the first one that is not complete or whose checksum does not match
+     * 
+     * @param stream The stream of the journal, past its header
+     * @param savedGame The saved game
+     * 
+     * @throws IOException If the journal could not be read
+     */
+    private static void readJournal(DataInputStream stream, SavedGame savedGame) throws IOException {
+        int size = savedGame.getRows() * savedGame.getColumns();
+        CRC32 checksum = new CRC32();
+        while(stream.available() >= RECORD_HEADER_SIZE) {
+            int length = stream.readInt();
+            int value = stream.readInt();
+            if(length <= 0 || length > stream.available()) {
+                return;
+            }
+            
+            byte[] record = new byte[length];
+            stream.readFully(record);
+            checksum.reset();
+            checksum.update(record, 0, length);
+            if((int) checksum.getValue() != value || !readRecord(record, size, null)) {
+                return;
+            }
+            readRecord(record, size, savedGame.getEvents());
+        }
+    }
+    
+    /**
+     * Reads the events of the specified record of the journal
+     * 
+     * @param record The record, without its length and its checksum
+     * @param size The number of tiles of the board
+     * @param events The events to add the events of the record to, or null to only check the events of the record
+     * 
+     * @return TRUE if every event of the record can be played on the board, FALSE otherwise
+     * 
+     * @throws IOException If the record could not be read
+     */
+    private static boolean readRecord(byte[] record, int size, Replay events) throws IOException {
+        ByteArrayInputStream stream = new ByteArrayInputStream(record);
+        while(stream.available() > 0) {
+            long event = ReplayCodec.readVarint(stream);
+            if(stream.available() == 0) {
+                return false;
+            }
+            long delta = ReplayCodec.readVarint(stream);
+            int type = (int)(event & ((1 << TYPE_BITS) - 1));
+            long tile = event >>> TYPE_BITS;
+            if(!ReplayCodec.isValidEvent(type, tile, size) || delta < 0) {
+                return false;
+            }
+            if(events != null) {
+                events.addEvent(type, (int) tile, delta);
+            }
+        }
+        
+        return true;
+    }
+    
+    /**
+     * The snapshot of the board of a game, as copied from the engine of the game for the writer to encode
+     * 
+     * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+     *
+     */
+    private static final class Snapshot {
+        
+        /**
+         * The number of rows of the board
+         */
+        private int _rows;
+        
+        /**
+         * The number of columns of the board
+         */
+        private int _columns;
+        
+        /**
+         * The number of mines of the board
+         */
+        private int _mines;
+        
+        /**
+         * The seed of the game
+         */
+        private long _seed;
+        
+        /**
+         * If the area around the first move is opened
+         */
+        private boolean _isFirstMoveOpening;
+        
+        /**
+         * If the board is generated so that it can be solved without guessing
+         */
+        private boolean _isNoGuess;
+        
+        /**
+         * If the mines of the board have been placed
+         */
+        private boolean _isGenerated;
+        
+        /**
+         * The status of the game
+         */
+        private BoardEngine.Status _status;
+        
+        /**
+         * The time elapsed since the game timer started, in nanoseconds, or -1 if the timer had not started
+         */
+        private long _elapsed;
+        
+        /**
+         * The index of the tile whose mine was revealed, or -1 if no mine was revealed
+         */
+        private int _detonatedIndex;
+        
+        /**
+         * The packed state of every tile, re-used from one snapshot to the next of a board of the same size
+         */
+        private byte[] _states = new byte[0];
+        
+        /**
+         * Takes a snapshot of the board of the specified engine
+         * 
+         * @param engine The engine
+         * @param elapsed The time elapsed since the game timer started, in nanoseconds, or -1 if the timer had not started
+         */
+        private void take(BoardEngine engine, long elapsed) {
+            if(_states.length != engine.getBoard().size()) {
+                _states = new byte[engine.getBoard().size()];
+            }
+            engine.getBoard().copyStates(_states);
+            
+            _rows = engine.getRows();
+            _columns = engine.getColumns();
+            _mines = engine.getMines();
+            _seed = engine.getSeed();
+            _isFirstMoveOpening = engine.isFirstMoveOpening();
+            _isNoGuess = engine.isNoGuess();
+            _isGenerated = engine.isGenerated();
+            _status = engine.getStatus();
+            _elapsed = elapsed;
+            _detonatedIndex = engine.getBoard().getDetonatedIndex();
+        }
+        
+        /**
+         * Gets this snapshot as a saved game without any event, to be written as a save file
+         * 
+         * @return The saved game
+         */
+        private SavedGame toSavedGame() {
+            return new SavedGame(_rows, _columns, _mines, _seed, _isFirstMoveOpening, _isNoGuess, _isGenerated, _status, _elapsed, _detonatedIndex, _states);
+        }
+    }
+}
\ No newline at end of file
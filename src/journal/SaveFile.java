@@ -0,0 +1,316 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import core.BoardEngine;
+import core.BoardStore;
+
+/**
+ * A save file holds a saved game within a fixed layout, a header followed by the packed state of every tile
+ * as held by the board store. The file is read and written through a memory mapping so that the tiles are
+ * copied in bulk rather than parsed, which keeps the time to load a very large board down to a copy out of the
+ * page cache. A mapping is only released once it is garbage collected, and a file that is still mapped cannot be
+ * replaced or deleted on Windows, so a save file is only ever created and never written over.
+ * 
+ * The tiles are checked against the header when the file is read, and every tile must only hold known bits and
+ * the number of mines around it, so that a damaged file is not restored.
+ * 
+ * The header is 68 bytes long, its layout in big endian is
+ * 
+ *   0  int   The magic number
+ *   4  int   The version of the layout
+ *   8  long  The generation of the save
+ *   16 int   The number of rows
+ *   20 int   The number of columns
+ *   24 int   The number of mines
+ *   28 int   The options of the game, see {@link #OPTION_OPENING}, {@link #OPTION_NO_GUESS} and {@link #OPTION_GENERATED}
+ *   32 long  The seed of the game
+ *   40 long  The time elapsed since the game timer started in nanoseconds, or -1 if the timer had not started
+ *   48 int   The status of the game
+ *   52 int   The index of the tile whose mine was revealed, or -1
+ *   56 int   The number of flags on the board
+ *   60 int   The number of tiles revealed on the board
+ *   64 int   The number of mines on the board, which differs from the number of mines of the game once mines are placed by hand
+ *   68       One byte per tile, the packed state of the tile
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class SaveFile {
+    
+    /**
+     * The bytes that start a save file
+     */
+    private static final int MAGIC = 0x4D535356;
+    
+    /**
+     * The version of the layout
+     */
+    private static final int VERSION = 3;
+    
+    /**
+     * The size of the header, the tiles start right after it
+     */
+    public static final int HEADER_SIZE = 68;
+    
+    /**
+     * The option set when the area around the first move is opened
+     */
+    public static final int OPTION_OPENING = 1;
+    
+    /**
+     * The option set when the board is generated so that it can be solved without guessing
+     */
+    public static final int OPTION_NO_GUESS = 1 << 1;
+    
+    /**
+     * The option set when the mines of the board have been placed
+     */
+    public static final int OPTION_GENERATED = 1 << 2;
+    
+    /**
+     * The bits of a tile that hold its numeral
+     */
+    private static final int NUMERAL_BITS = 0xF0;
+    
+    /**
+     * The shift applied to get to the numeral bits of a tile
+     */
+    private static final int NUMERAL_SHIFT = 4;
+    
+    /**
+     * The path of the file
+     */
+    private final Path _path;
+    
+    /**
+     * The generation of the save
+     */
+    private long _generation;
+    
+    /**
+     * Constructs a new instance of this class type
+     * 
+     * @param path The path of the file
+     */
+    public SaveFile(Path path) {
+        _path = path;
+    }
+    
+    /**
+     * Gets the generation of the save, this is the generation last written or read
+     * 
+     * @return The generation of the save
+     */
+    public long getGeneration() {
+        return _generation;
+    }
+    
+    /**
+     * Sets the generation of the save that is written next
+     * 
+     * @param generation The generation of the save
+     */
+    public void setGeneration(long generation) {
+        _generation = generation;
+    }
+    
+    /**
+     * Writes the specified saved game into the file and syncs it to the disk, the file must not exist
+     * 
+     * @param savedGame The saved game
+     * 
+     * @throws IOException If the file could not be written or if it already exists
+     */
+    public void write(SavedGame savedGame) throws IOException {
+        byte[] states = savedGame.getStates();
+        
+        // Count the flags, the revealed tiles and the mines so that the header describes the game without reading the tiles
+        int flagCount = 0;
+        int revealedCount = 0;
+        int mineCount = 0;
+        for(byte state : states) {
+            if((state & BoardStore.FLAG) != 0) {
+                ++flagCount;
+            }
+            if((state & BoardStore.COVERED) == 0) {
+                ++revealedCount;
+            }
+            if((state & BoardStore.MINE) != 0) {
+                ++mineCount;
+            }
+        }
+        
+        try(FileChannel channel = FileChannel.open(_path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE + states.length);
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putLong(_generation);
+            buffer.putInt(savedGame.getRows());
+            buffer.putInt(savedGame.getColumns());
+            buffer.putInt(savedGame.getMines());
+            buffer.putInt(
+                (savedGame.isFirstMoveOpening() ? OPTION_OPENING : 0) | 
+                (savedGame.isNoGuess() ? OPTION_NO_GUESS : 0) | 
+                (savedGame.isGenerated() ? OPTION_GENERATED : 0)
+            );
+            buffer.putLong(savedGame.getSeed());
+            buffer.putLong(savedGame.getSnapshotElapsed());
+            buffer.putInt(savedGame.getStatus().ordinal());
+            buffer.putInt(savedGame.getDetonatedIndex());
+            buffer.putInt(flagCount);
+            buffer.putInt(revealedCount);
+            buffer.putInt(mineCount);
+            buffer.put(states);
+            buffer.force();
+            channel.force(true);
+        }
+    }
+    
+    /**
+     * Reads the saved game held by the file
+     * 
+     * @return The saved game
+     * 
+     * @throws IOException If the file could not be read or if it does not hold a valid saved game
+     */
+    public SavedGame read() throws IOException {
+        try(FileChannel channel = FileChannel.open(_path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if(size < HEADER_SIZE) {
+                throw new IOException("The save file is truncated");
+            }
+            if(size > Integer.MAX_VALUE) {
+                throw new IOException("The save file is invalid");
+            }
+            
+            MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, size);
+            if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("The save file is not supported");
+            }
+            
+            long generation = buffer.getLong();
+            int rows = buffer.getInt();
+            int columns = buffer.getInt();
+            int mines = buffer.getInt();
+            int options = buffer.getInt();
+            long seed = buffer.getLong();
+            long elapsed = buffer.getLong();
+            int status = buffer.getInt();
+            int detonatedIndex = buffer.getInt();
+            int flagCount = buffer.getInt();
+            int revealedCount = buffer.getInt();
+            int mineCount = buffer.getInt();
+            if(rows <= 0 || columns <= 0 || (long)rows * columns != size - HEADER_SIZE || mines < 0 || mines >= rows * columns || status < 0 || status >= BoardEngine.Status.values().length || detonatedIndex < -1 || detonatedIndex >= rows * columns) {
+                throw new IOException("The save file is invalid");
+            }
+            
+            // A board whose mines have not been placed yet cannot have any mine
+            if((options & OPTION_GENERATED) == 0 && mineCount != 0) {
+                throw new IOException("The save file has mines on a board that was not generated");
+            }
+            
+            // The tiles are copied out of the mapping so that the saved game does not hold on to it
+            byte[] states = new byte[rows * columns];
+            buffer.get(states);
+            
+            // The counters of the header are checked against the tiles so that a damaged file is not restored
+            for(byte state : states) {
+                if((state & BoardStore.FLAG) != 0) {
+                    --flagCount;
+                }
+                if((state & BoardStore.COVERED) == 0) {
+                    --revealedCount;
+                }
+                if((state & BoardStore.MINE) != 0) {
+                    --mineCount;
+                }
+            }
+            if(flagCount != 0 || revealedCount != 0 || mineCount != 0) {
+                throw new IOException("The save file does not match its counters");
+            }
+            
+            checkTiles(rows, columns, states);
+            if(detonatedIndex >= 0 && (states[detonatedIndex] & (BoardStore.MINE | BoardStore.COVERED)) != BoardStore.MINE) {
+                throw new IOException("The save file has a detonated tile that is not a revealed mine");
+            }
+            
+            _generation = generation;
+            return new SavedGame(
+                rows,
+                columns,
+                mines,
+                seed,
+                (options & OPTION_OPENING) != 0,
+                (options & OPTION_NO_GUESS) != 0,
+                (options & OPTION_GENERATED) != 0,
+                BoardEngine.Status.values()[status],
+                elapsed,
+                detonatedIndex,
+                states
+            );
+        }
+    }
+    
+    /**
+     * Checks that every one of the specified tiles only holds known bits, is not both flagged and marked,
+     * and holds the number of mines around it
+     * 
+     * @param rows The number of rows of the board
+     * @param columns The number of columns of the board
+     * @param states The packed state of every tile
+     * 
+     * @throws IOException If a tile is not valid
+     */
+    private static void checkTiles(int rows, int columns, byte[] states) throws IOException {
+        for(int row = 0, index = 0; row < rows; ++row) {
+            for(int column = 0; column < columns; ++column, ++index) {
+                int state = states[index] & 0xFF;
+                if((state & (BoardStore.FLAG | BoardStore.MARK)) == (BoardStore.FLAG | BoardStore.MARK)) {
+                    throw new IOException("The save file has a tile that is both flagged and marked");
+                }
+                
+                int mines = 0;
+                for(int i = Math.max(row - 1, 0), rowEnd = Math.min(row + 1, rows - 1); i <= rowEnd; ++i) {
+                    for(int j = Math.max(column - 1, 0), columnEnd = Math.min(column + 1, columns - 1); j <= columnEnd; ++j) {
+                        mines += states[i * columns + j] & BoardStore.MINE;
+                    }
+                }
+                mines -= state & BoardStore.MINE;
+                
+                if((state & NUMERAL_BITS) >>> NUMERAL_SHIFT != mines) {
+                    throw new IOException("The save file has a tile whose numeral does not match its mines");
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,253 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package journal;
+
+import core.BoardEngine;
+import replay.Replay;
+
+/**
+ * A game that was saved by the game journal, made of a snapshot of the board followed by the events that were
+ * journaled after the snapshot was taken
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class SavedGame {
+
+    /**
+     * The seed of the game
+     */
+    private final long _seed;
+    
+    /**
+     * If the area around the first move is opened
+     */
+    private final boolean _isFirstMoveOpening;
+    
+    /**
+     * If the board is generated so that it can be solved without guessing
+     */
+    private final boolean _isNoGuess;
+    
+    /**
+     * If the mines of the board have been placed
+     */
+    private final boolean _isGenerated;
+    
+    /**
+     * The status of the game
+     */
+    private final BoardEngine.Status _status;
+    
+    /**
+     * The time elapsed since the game timer started, in nanoseconds, or -1 if the timer had not started
+     */
+    private final long _elapsed;
+    
+    /**
+     * The index of the tile whose mine was revealed, or -1 if no mine was revealed
+     */
+    private final int _detonatedIndex;
+    
+    /**
+     * The packed state of every tile
+     */
+    private final byte[] _states;
+    
+    /**
+     * The events that were journaled after the snapshot was taken
+     */
+    private final Replay _events;
+    
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param rows The number of rows of the board
+     * @param columns The number of columns of the board
+     * @param mines The number of mines of the board
+     * @param seed The seed of the game
+     * @param isFirstMoveOpening If the area around the first move is opened
+     * @param isNoGuess If the board is generated so that it can be solved without guessing
+     * @param isGenerated If the mines of the board have been placed
+     * @param status The status of the game
+     * @param elapsed The time elapsed since the game timer started, in nanoseconds, or -1 if the timer had not started
+     * @param detonatedIndex The index of the tile whose mine was revealed, or -1 if no mine was revealed
+     * @param states The packed state of every tile
+     */
+    public SavedGame(int rows, int columns, int mines, long seed, boolean isFirstMoveOpening, boolean isNoGuess, boolean isGenerated, BoardEngine.Status status, long elapsed, int detonatedIndex, byte[] states) {
+        _seed = seed;
+        _isFirstMoveOpening = isFirstMoveOpening;
+        _isNoGuess = isNoGuess;
+        _isGenerated = isGenerated;
+        _status = status;
+        _elapsed = elapsed;
+        _detonatedIndex = detonatedIndex;
+        _states = states;
+        _events = new Replay(rows, columns, mines, seed, 0);
+    }
+    
+    /**
+     * Restores this game into the specified engine, restoring the snapshot and then playing the events that
+     * followed it
+     * 
+     * @param engine The engine, it must have the dimensions of this game
+     */
+    public void restore(BoardEngine engine) {
+        engine.setFirstMoveOpening(_isFirstMoveOpening);
+        engine.setNoGuess(_isNoGuess);
+        engine.restore(_seed, _status, _isGenerated, _states, _detonatedIndex);
+        for(int i = 0; i < _events.getEventCount(); ++i) {
+            Replay.play(engine, _events.getType(i), _events.getTile(i));
+        }
+    }
+    
+    /**
+     * Gets the number of rows of the board
+     * 
+     * @return The number of rows of the board
+     */
+    public int getRows() {
+        return _events.getRows();
+    }
+    
+    /**
+     * Gets the number of columns of the board
+     * 
+     * @return The number of columns of the board
+     */
+    public int getColumns() {
+        return _events.getColumns();
+    }
+    
+    /**
+     * Gets the number of mines of the board
+     * 
+     * @return The number of mines of the board
+     */
+    public int getMines() {
+        return _events.getMines();
+    }
+    
+    /**
+     * Gets the seed of the game
+     * 
+     * @return The seed of the game
+     */
+    public long getSeed() {
+        return _seed;
+    }
+    
+    /**
+     * Gets if the area around the first move is opened
+     * 
+     * @return TRUE if the area around the first move is opened, FALSE otherwise
+     */
+    public boolean isFirstMoveOpening() {
+        return _isFirstMoveOpening;
+    }
+    
+    /**
+     * Gets if the board is generated so that it can be solved without guessing
+     * 
+     * @return TRUE if the board can be solved without guessing, FALSE otherwise
+     */
+    public boolean isNoGuess() {
+        return _isNoGuess;
+    }
+    
+    /**
+     * Gets if the mines of the board have been placed
+     * 
+     * @return TRUE if the mines have been placed, FALSE otherwise
+     */
+    public boolean isGenerated() {
+        return _isGenerated;
+    }
+    
+    /**
+     * Gets the status of the game when the snapshot was taken
+     * 
+     * @return The status of the game
+     */
+    public BoardEngine.Status getStatus() {
+        return _status;
+    }
+    
+    /**
+     * Gets the index of the tile whose mine was revealed
+     * 
+     * @return The index of the tile whose mine was revealed, or -1 if no mine was revealed
+     */
+    public int getDetonatedIndex() {
+        return _detonatedIndex;
+    }
+    
+    /**
+     * Gets the packed state of every tile when the snapshot was taken
+     * 
+     * @return The packed state of every tile
+     */
+    public byte[] getStates() {
+        return _states;
+    }
+    
+    /**
+     * Gets the time elapsed since the game timer started when the snapshot was taken
+     * 
+     * @return The time elapsed in nanoseconds, or -1 if the timer had not started
+     */
+    public long getSnapshotElapsed() {
+        return _elapsed;
+    }
+    
+    /**
+     * Gets the time elapsed since the game timer started when the last event was journaled
+     * 
+     * @return The time elapsed in nanoseconds, or -1 if the timer had not started
+     */
+    public long getElapsed() {
+        long elapsed = _elapsed;
+        for(int i = 0; i < _events.getEventCount(); ++i) {
+            int type = _events.getType(i);
+            if(elapsed >= 0) {
+                elapsed += _events.getDelta(i);
+            }
+            else if(type == Replay.REVEAL || type == Replay.FLAG || type == Replay.MARK) {
+                elapsed = 0;
+            }
+        }
+        
+        return elapsed;
+    }
+    
+    /**
+     * Gets the events that were journaled after the snapshot was taken
+     * 
+     * @return The events
+     */
+    public Replay getEvents() {
+        return _events;
+    }
+}
\ No newline at end of file
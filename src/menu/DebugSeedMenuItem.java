@@ -0,0 +1,103 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package menu;
+
+import java.awt.event.ActionEvent;
+import java.util.logging.Level;
+
+import javax.swing.JComponent;
+import javax.swing.JMenuItem;
+import javax.swing.JOptionPane;
+
+import application.MainApplication;
+import controllers.BoardController;
+import core.GameSettings;
+import engine.core.factories.AbstractSignalFactory;
+import engine.core.navigation.AbstractMenuItem;
+import engine.core.navigation.MenuBuilder;
+import engine.utils.globalisation.Localization;
+import engine.utils.logging.Tracelog;
+import resources.LocalizedStrings;
+
+/**
+ * The menu item for choosing the seed used to generate boards in the debugger
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public class DebugSeedMenuItem extends AbstractMenuItem {
+
+    /**
+     * Constructs a new instance of this class type
+     * 
+     * @param parent The parent of this menu item
+     */
+    public DebugSeedMenuItem(JComponent parent) {
+        super(new JMenuItem(Localization.instance().getLocalizedString(LocalizedStrings.DebugSeed)), parent);
+    }
+
+    @Override public boolean enabled() {
+        // Show the seed of the current game so that it can be written down and replayed later
+        getComponent(JMenuItem.class).setText(String.format("%s (%d)...", Localization.instance().getLocalizedString(LocalizedStrings.DebugSeed), BoardController.GAME_SETTINGS.getSeed()));
+        return AbstractSignalFactory.isRunning();
+    }
+
+    @Override public void onExecute(ActionEvent actionEvent) {
+        
+        // Prompt for the seed, pre-filled with the seed of the current game
+        Object result = JOptionPane.showInputDialog(
+            MainApplication.instance(), 
+            Localization.instance().getLocalizedString(LocalizedStrings.DebugSeedPrompt), 
+            Localization.instance().getLocalizedString(LocalizedStrings.DebugSeed),
+            JOptionPane.QUESTION_MESSAGE,
+            null,
+            null,
+            BoardController.GAME_SETTINGS.isSeedFixed() ? String.valueOf(BoardController.GAME_SETTINGS.getSeed()) : ""
+        );
+        
+        // The prompt was cancelled
+        if(result == null) {
+            return;
+        }
+        
+        // An empty seed goes back to a random seed for every game
+        String seed = result.toString().trim();
+        if(seed.isEmpty()) {
+            GameSettings.clearSeeds();
+        }
+        else {
+            try {
+                GameSettings.setSeeds(Long.parseLong(seed));
+            }
+            catch(NumberFormatException exception) {
+                Tracelog.log(Level.WARNING, true, "Invalid seed specified: " + seed);
+                return;
+            }
+        }
+        
+        // Start a new game so that the board is generated with the new seed
+        MenuBuilder.search(MainApplication.instance().getJMenuBar(), DebugGameMenuItem.class).onExecute(null);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package menu;
+
+import java.awt.event.ActionEvent;
+
+import javax.swing.JCheckBoxMenuItem;
+import javax.swing.JComponent;
+
+import core.GameSettings;
+import core.PreferencesManager;
+import engine.core.navigation.AbstractMenuItem;
+import engine.utils.globalisation.Localization;
+import resources.LocalizedStrings;
+
+/**
+ * Menu item for only generating boards that can be solved without guessing
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public class NoGuessMenuItem extends AbstractMenuItem {
+
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param parent The parent associated to this menu item
+     */
+    public NoGuessMenuItem(JComponent parent) {
+        super(new JCheckBoxMenuItem(Localization.instance().getLocalizedString(LocalizedStrings.NoGuess)), parent);
+    }
+
+    @Override public void onExecute(ActionEvent actionEvent) {
+        GameSettings.setNoGuesses(getComponent(JCheckBoxMenuItem.class).isSelected());
+        PreferencesManager.instance().setNoGuessEnabled(getComponent(JCheckBoxMenuItem.class).isSelected());
+    }
+}
\ No newline at end of file
@@ -24,12 +24,9 @@
 
 package models;
 
-import java.util.ArrayList;
-import java.util.List;
-
+import core.DigitRenderer;
 import engine.core.graphics.IRenderable;
 import engine.core.mvc.model.BaseModel;
-import entities.GameTimerEntity;
 
 /**
  * The model associated to the bombs counter
@@ -55,19 +52,9 @@ public final class BombsCounterModel extends BaseModel {
     private int _timerValue;
     
     /**
-     * The entity list representation of the numerical timer
-     */
-    public List<GameTimerEntity> _timerEntities = new ArrayList();
-    
-    /**
-     * Constructs a new instance of this class type
+     * The renderer of the digits of the numerical timer, by default the precision is set to 3
      */
-    public BombsCounterModel() {
-        // By default, the precision is set to 3
-        for(int i = 0; i < 3; ++i) {
-            _timerEntities.add(new GameTimerEntity());
-        }            
-    }
+    private final DigitRenderer _digitRenderer = new DigitRenderer(3);
 
     /**
      * Sets the initial timer value for this model
@@ -79,24 +66,22 @@ public final class BombsCounterModel extends BaseModel {
         setTimer(initialTimerValue);
     }
     
+    /**
+     * Gets the initial timer value of this model
+     * 
+     * @return The initial timer value of this model
+     */
+    public int getInitialTimerValue() {
+        return _initialTimerValue;
+    }
+    
     /**
      * Sets the timer to the specified value
      * 
      * @param timerValue The value to set the timer to
      */
     public void setTimer(int timerValue) {
-        String numeralString = String.format("%03d", timerValue);
-        
-        for(int i = (timerValue < 0 ? 1 : 0), size = numeralString.length(); i < size; ++i) {
-            _timerEntities.get(i).setNumeral(
-                Character.getNumericValue(numeralString.charAt(i))
-            );
-        }
-
-        if(timerValue < 0) {
-            _timerEntities.get(0).setNumeralEmpty();
-        }
-        
+        _digitRenderer.setValue(timerValue);
         _timerValue = timerValue;
             
         doneUpdating();
@@ -124,6 +109,6 @@ public final class BombsCounterModel extends BaseModel {
      * @return The renderable entity of this model
      */
     public IRenderable getEntity() {
-        return GameTimerEntity.flattenData(_timerEntities);
+        return _digitRenderer;
     }
 }
\ No newline at end of file
@@ -52,6 +52,15 @@ public final class GameStateModel extends BaseModel {
         doneUpdating();
     }
     
+    /**
+     * Gets the game state
+     * 
+     * @return The game state
+     */
+    public GAME_STATE getGameState() {
+        return _gameStateEntity.getGameState();
+    }
+    
     /**
      * Indicates if this model is in a game over state
      * 
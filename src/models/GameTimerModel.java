@@ -24,12 +24,9 @@
 
 package models;
 
-import java.util.ArrayList;
-import java.util.List;
-
+import core.DigitRenderer;
 import engine.core.graphics.IRenderable;
 import engine.core.mvc.model.BaseModel;
-import entities.GameTimerEntity;
 
 /**
  * The model associated to the game timer 
@@ -50,19 +47,9 @@ public final class GameTimerModel extends BaseModel {
     private int _timerValue;
     
     /**
-     * The gamer time entities list associated to this model
+     * The renderer of the digits of the timer, by default the precision is set to 3
      */
-    public List<GameTimerEntity> _timerEntities = new ArrayList();
-    
-    /**
-     * Constructs a new instance of this class type
-     */
-    public GameTimerModel() {
-        // By default, the precision is set to 3
-        for(int i = 0; i < 3; ++i) {
-            _timerEntities.add(new GameTimerEntity());
-        }            
-    }
+    private final DigitRenderer _digitRenderer = new DigitRenderer(3);
 
     /**
      * Sets the timer to the specified value
@@ -70,13 +57,7 @@ public final class GameTimerModel extends BaseModel {
      * @param timerValue The value to set the timer to
      */
     public void setTimer(int timerValue) {
-        String numeralString = String.format("%03d", timerValue);
-        for(int i = 0, size = numeralString.length(); i < size; ++i) {
-            _timerEntities.get(i).setNumeral(
-                Character.getNumericValue(numeralString.charAt(i))
-            );
-        }
-        
+        _digitRenderer.setValue(timerValue);
         _timerValue = timerValue;
             
         doneUpdating();
@@ -104,6 +85,6 @@ public final class GameTimerModel extends BaseModel {
      * @return The renderable entity associated to this model
      */
     public IRenderable getEntity() {
-        return GameTimerEntity.flattenData(_timerEntities);
+        return _digitRenderer;
     }
 }
\ No newline at end of file
@@ -26,6 +26,7 @@ package models;
 
 import java.util.ArrayList;
 
+import core.BoardStore;
 import engine.communication.internal.signal.ISignalListener;
 import engine.core.graphics.IRenderable;
 import engine.core.mvc.model.BaseModel;
@@ -35,6 +36,9 @@ import entities.TileStateEntity;
 /**
  * The model representation of a tile 
  * 
+ * Note: The logical state of this tile is held by the board store, this model only
+ *       provides a view over a single tile of that store
+ * 
  * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
  *
  */
@@ -50,23 +54,54 @@ public class TileModel extends BaseModel {
      */
     private boolean _isHighlighted;
     
+    /**
+     * The probability of this tile having a mine, shown for debugging purposes, or NaN if it is not shown
+     */
+    private double _probability = Double.NaN;
+    
+    /**
+     * The board store that holds the state of this tile model
+     */
+    private final BoardStore _board;
+    
+    /**
+     * The index of this tile model within the board store
+     */
+    private final int _index;
+    
     /**
      * The button state entity of this tile model
      */
-    private final ButtonStateEntity _buttonStateEntity = new ButtonStateEntity();
+    private final ButtonStateEntity _buttonStateEntity;
     
     /**
      * The tile state entity of this tile model
      */
-    private final TileStateEntity _tileStateEntity = new TileStateEntity();
+    private final TileStateEntity _tileStateEntity;
 
     /** 
      * Constructs a new instance of this class type
      *
+     * @param board The board store that holds the state of this tile model
+     * @param index The index of this tile model within the board store
      * @param listeners The list of receivers
      */
-    public TileModel(ISignalListener... listeners) {
+    public TileModel(BoardStore board, int index, ISignalListener... listeners) {
         super(listeners);
+        
+        _board = board;
+        _index = index;
+        _buttonStateEntity = new ButtonStateEntity(board, index);
+        _tileStateEntity = new TileStateEntity(board, index);
+    }
+    
+    /**
+     * Gets the index of this tile model within the board store
+     * 
+     * @return The index of this tile model within the board store
+     */
+    public int getIndex() {
+        return _index;
     }
         
     /**
@@ -113,13 +148,32 @@ public class TileModel extends BaseModel {
     public boolean getIsHighlighted() {
         return _isHighlighted;
     }
+    
+    /**
+     * Sets the probability of this tile having a mine, this is used for debugging purposes
+     * 
+     * Note: The tile is not published, the probabilities of the whole board are published at once
+     * 
+     * @param probability The probability of this tile having a mine, or NaN if it should not be shown
+     */
+    public void setProbability(double probability) {
+        _probability = probability;
+    }
+    
+    /**
+     * Gets the probability of this tile having a mine
+     * 
+     * @return The probability of this tile having a mine, or NaN if it is not shown
+     */
+    public double getProbability() {
+        return _probability;
+    }
 
     /**
      * Resets this entity
      */
     public void reset() {
-        _buttonStateEntity.reset();
-        _tileStateEntity.reset();
+        _board.reset(_index);
         doneUpdating();
     }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package models;
+
+import core.BoardStore;
+import engine.communication.internal.signal.arguments.AbstractEventArgs;
+
+/**
+ * The event arguments raised once for a whole batch of tiles that have been updated together
+ * 
+ * Note: The indices of the tiles are only valid while the event is being dispatched, the array
+ *       is re-used by the next batch
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class TilesUpdatedEventArgs extends AbstractEventArgs<BoardStore> {
+
+    /**
+     * The event raised when a batch of tiles has been updated
+     */
+    public static final String EVENT_TILES_UPDATED = "EVENT_TILES_UPDATED";
+    
+    /**
+     * The indices of the tiles that have been updated
+     */
+    private final int[] _indices;
+    
+    /**
+     * The number of valid entries within the indices
+     */
+    private final int _count;
+    
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param board The board store that holds the tiles
+     * @param indices The indices of the tiles that have been updated
+     * @param count The number of valid entries within the indices
+     */
+    public TilesUpdatedEventArgs(BoardStore board, int[] indices, int count) {
+        super(board, EVENT_TILES_UPDATED);
+        _indices = indices;
+        _count = count;
+    }
+    
+    /**
+     * Gets the number of tiles that have been updated
+     * 
+     * @return The number of tiles that have been updated
+     */
+    public int getCount() {
+        return _count;
+    }
+    
+    /**
+     * Gets the index of a tile that has been updated
+     * 
+     * @param position The position of the tile within this batch, between zero and the number of tiles that have been updated
+     * 
+     * @return The index of the tile
+     */
+    public int getIndex(int position) {
+        return _indices[position];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,388 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package replay;
+
+import java.util.Arrays;
+
+import core.BoardEngine;
+
+/**
+ * A replay of a game, the board that was played followed by every move of the player.
+ * 
+ * The board is identified by its dimensions and by the seed of the game, the mines being placed from the seed
+ * once the first move is made. Boards whose mines were placed by hand are described by the events that cleared
+ * the board and placed the mines. Every event holds the time elapsed since the previous event, and the replay
+ * ends with the result of the game so that a replay can be verified by playing it again.
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class Replay {
+
+    /**
+     * Reveals a tile
+     */
+    public static final int REVEAL = 0;
+    
+    /**
+     * Toggles the flag of a tile while marks are disabled, cycling between a flag and no flag
+     */
+    public static final int FLAG = 1;
+    
+    /**
+     * Toggles the flag of a tile while marks are enabled, cycling between a flag, a mark and no flag
+     */
+    public static final int MARK = 2;
+    
+    /**
+     * Chords a tile, revealing its neighbors if the tile has matching flags
+     */
+    public static final int CHORD = 3;
+    
+    /**
+     * Toggles the mine of a tile by hand
+     */
+    public static final int MINE = 4;
+    
+    /**
+     * Clears the board so that mines can be placed by hand, the tile of the event is not used
+     */
+    public static final int CLEAR = 5;
+    
+    /**
+     * The options of the first move, where the tile of the event holds the options instead of a tile
+     */
+    public static final int OPTIONS = 6;
+    
+    /**
+     * The option of the first move that opens the area around the first move
+     */
+    public static final int OPTION_OPENING = 1;
+    
+    /**
+     * The option of the first move that generates a board that can be solved without guessing
+     */
+    public static final int OPTION_NO_GUESS = 2;
+    
+    /**
+     * The number of rows of the board
+     */
+    private final int _rows;
+    
+    /**
+     * The number of columns of the board
+     */
+    private final int _columns;
+    
+    /**
+     * The number of mines of the board
+     */
+    private final int _mines;
+    
+    /**
+     * The seed of the game
+     */
+    private final long _seed;
+    
+    /**
+     * The wall clock time when the game started, in milliseconds since the epoch
+     */
+    private final long _startTime;
+    
+    /**
+     * The type of every event
+     */
+    private byte[] _types = new byte[64];
+    
+    /**
+     * The tile of every event
+     */
+    private int[] _tiles = new int[64];
+    
+    /**
+     * The time elapsed before every event since the previous event, or since the start of the game, in nanoseconds
+     */
+    private long[] _deltas = new long[64];
+    
+    /**
+     * The number of events
+     */
+    private int _count;
+    
+    /**
+     * The status of the game when the replay ended
+     */
+    private BoardEngine.Status _status = BoardEngine.Status.RUNNING;
+    
+    /**
+     * The time shown by the game timer when the replay ended, in seconds
+     */
+    private int _time;
+    
+    /**
+     * The number of tiles revealed when the replay ended
+     */
+    private int _revealedCount;
+    
+    /**
+     * The number of flags when the replay ended
+     */
+    private int _flagCount;
+    
+    /**
+     * The time elapsed between the last event and the end of the replay, in nanoseconds
+     */
+    private long _endDelta;
+    
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param rows The number of rows of the board
+     * @param columns The number of columns of the board
+     * @param mines The number of mines of the board
+     * @param seed The seed of the game
+     * @param startTime The wall clock time when the game started, in milliseconds since the epoch
+     */
+    public Replay(int rows, int columns, int mines, long seed, long startTime) {
+        _rows = rows;
+        _columns = columns;
+        _mines = mines;
+        _seed = seed;
+        _startTime = startTime;
+    }
+    
+    /**
+     * Adds an event to this replay
+     * 
+     * @param type The type of the event
+     * @param tile The tile of the event
+     * @param delta The time elapsed since the previous event, in nanoseconds
+     */
+    public void addEvent(int type, int tile, long delta) {
+        if(_count == _types.length) {
+            _types = Arrays.copyOf(_types, _count * 2);
+            _tiles = Arrays.copyOf(_tiles, _count * 2);
+            _deltas = Arrays.copyOf(_deltas, _count * 2);
+        }
+        
+        _types[_count] = (byte) type;
+        _tiles[_count] = tile;
+        _deltas[_count] = delta;
+        ++_count;
+    }
+    
+    /**
+     * Sets the result of the game, ending this replay
+     * 
+     * @param status The status of the game
+     * @param time The time shown by the game timer, in seconds
+     * @param revealedCount The number of tiles revealed
+     * @param flagCount The number of flags
+     * @param endDelta The time elapsed between the last event and the end of the replay, in nanoseconds
+     */
+    public void setResult(BoardEngine.Status status, int time, int revealedCount, int flagCount, long endDelta) {
+        _status = status;
+        _time = time;
+        _revealedCount = revealedCount;
+        _flagCount = flagCount;
+        _endDelta = endDelta;
+    }
+    
+    /**
+     * Plays the specified event through the specified engine. Moves made once the game is over are ignored, like
+     * the board controller does
+     * 
+     * @param engine The engine
+     * @param type The type of the event
+     * @param tile The tile of the event
+     * 
+     * @return TRUE if the event is known, FALSE otherwise
+     */
+    public static boolean play(BoardEngine engine, int type, int tile) {
+        switch(type) {
+        case REVEAL:
+            if(!engine.isGameOver() && engine.isCovered(tile) && !engine.isFlagged(tile)) {
+                engine.reveal(tile);
+            }
+            return true;
+        case FLAG:
+        case MARK:
+            if(!engine.isGameOver()) {
+                engine.setMarksEnabled(type == MARK);
+                engine.toggleFlag(tile);
+            }
+            return true;
+        case CHORD:
+            if(!engine.isGameOver()) {
+                engine.chord(tile);
+            }
+            return true;
+        case MINE:
+            engine.setMine(tile, !engine.getBoard().hasMine(tile));
+            return true;
+        case CLEAR:
+            engine.clear();
+            return true;
+        case OPTIONS:
+            engine.setFirstMoveOpening((tile & OPTION_OPENING) != 0);
+            engine.setNoGuess((tile & OPTION_NO_GUESS) != 0);
+            return true;
+        default:
+            return false;
+        }
+    }
+    
+    /**
+     * Gets the number of rows of the board
+     * 
+     * @return The number of rows of the board
+     */
+    public int getRows() {
+        return _rows;
+    }
+    
+    /**
+     * Gets the number of columns of the board
+     * 
+     * @return The number of columns of the board
+     */
+    public int getColumns() {
+        return _columns;
+    }
+    
+    /**
+     * Gets the number of mines of the board
+     * 
+     * @return The number of mines of the board
+     */
+    public int getMines() {
+        return _mines;
+    }
+    
+    /**
+     * Gets the seed of the game
+     * 
+     * @return The seed of the game
+     */
+    public long getSeed() {
+        return _seed;
+    }
+    
+    /**
+     * Gets the wall clock time when the game started
+     * 
+     * @return The wall clock time when the game started, in milliseconds since the epoch
+     */
+    public long getStartTime() {
+        return _startTime;
+    }
+    
+    /**
+     * Gets the number of events of this replay
+     * 
+     * @return The number of events
+     */
+    public int getEventCount() {
+        return _count;
+    }
+    
+    /**
+     * Gets the type of the specified event
+     * 
+     * @param event The index of the event
+     * 
+     * @return The type of the event
+     */
+    public int getType(int event) {
+        return _types[event];
+    }
+    
+    /**
+     * Gets the tile of the specified event
+     * 
+     * @param event The index of the event
+     * 
+     * @return The tile of the event
+     */
+    public int getTile(int event) {
+        return _tiles[event];
+    }
+    
+    /**
+     * Gets the time elapsed before the specified event since the previous event
+     * 
+     * @param event The index of the event
+     * 
+     * @return The time elapsed before the event, in nanoseconds
+     */
+    public long getDelta(int event) {
+        return _deltas[event];
+    }
+    
+    /**
+     * Gets the status of the game when the replay ended
+     * 
+     * @return The status of the game, RUNNING if the game was abandoned
+     */
+    public BoardEngine.Status getStatus() {
+        return _status;
+    }
+    
+    /**
+     * Gets the time shown by the game timer when the replay ended
+     * 
+     * @return The time shown by the game timer, in seconds
+     */
+    public int getTime() {
+        return _time;
+    }
+    
+    /**
+     * Gets the number of tiles revealed when the replay ended
+     * 
+     * @return The number of tiles revealed
+     */
+    public int getRevealedCount() {
+        return _revealedCount;
+    }
+    
+    /**
+     * Gets the number of flags when the replay ended
+     * 
+     * @return The number of flags
+     */
+    public int getFlagCount() {
+        return _flagCount;
+    }
+    
+    /**
+     * Gets the time elapsed between the last event and the end of the replay
+     * 
+     * @return The time elapsed, in nanoseconds
+     */
+    public long getEndDelta() {
+        return _endDelta;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,256 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package replay;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import core.BoardEngine;
+import core.GameSettings;
+import models.GameTimerModel;
+
+/**
+ * The replay codec encodes replays into a compact binary stream, and decodes them back.
+ * 
+ * Every number of the stream is written as a variable length integer of seven bits per byte, the high bit of
+ * a byte telling if another byte follows, so that the small numbers that make up most of a replay take a single
+ * byte. The seed is zigzag encoded since it can be negative, and the deltas of the events are the nanoseconds
+ * elapsed since the previous event, which still take three or four bytes for the pace of a player. The stream
+ * is laid out as follows
+ * 
+ * <pre>
+ * magic, version, rows, columns, mines, seed, start time, event count
+ * every event: (tile &lt;&lt; 3 | type), delta
+ * status, time, revealed count, flag count, end delta
+ * </pre>
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class ReplayCodec {
+
+    /**
+     * The bytes that start every replay
+     */
+    private static final byte[] MAGIC = { 'M', 'S', 'R', 'P' };
+    
+    /**
+     * The version of the layout of the stream
+     */
+    public static final int VERSION = 2;
+    
+    /**
+     * The extension of the files of the replays
+     */
+    public static final String EXTENSION = ".msr";
+    
+    /**
+     * The number of bits of an event that hold its type
+     */
+    private static final int TYPE_BITS = 3;
+    
+    /**
+     * The maximum number of events of a replay, far more than any game played by hand on the largest board
+     */
+    private static final int MAX_EVENTS = 1 << 20;
+    
+    /**
+     * Constructs a new instance of this class type
+     */
+    private ReplayCodec() {
+    }
+    
+    /**
+     * Writes the specified replay into the specified stream
+     * 
+     * @param replay The replay
+     * @param stream The stream, it is expected to be buffered
+     * 
+     * @throws IOException If the replay could not be written
+     */
+    public static void write(Replay replay, OutputStream stream) throws IOException {
+        stream.write(MAGIC);
+        writeVarint(stream, VERSION);
+        writeVarint(stream, replay.getRows());
+        writeVarint(stream, replay.getColumns());
+        writeVarint(stream, replay.getMines());
+        writeVarint(stream, (replay.getSeed() << 1) ^ (replay.getSeed() >> 63));
+        writeVarint(stream, replay.getStartTime());
+        
+        writeVarint(stream, replay.getEventCount());
+        for(int i = 0; i < replay.getEventCount(); ++i) {
+            writeVarint(stream, ((long)replay.getTile(i) << TYPE_BITS) | replay.getType(i));
+            writeVarint(stream, replay.getDelta(i));
+        }
+        
+        writeVarint(stream, replay.getStatus().ordinal());
+        writeVarint(stream, replay.getTime());
+        writeVarint(stream, replay.getRevealedCount());
+        writeVarint(stream, replay.getFlagCount());
+        writeVarint(stream, replay.getEndDelta());
+    }
+    
+    /**
+     * Reads a replay from the specified stream
+     * 
+     * @param stream The stream, it is expected to be buffered
+     * 
+     * @return The replay
+     * 
+     * @throws IOException If the replay could not be read, or if the stream is not a valid replay
+     */
+    public static Replay read(InputStream stream) throws IOException {
+        for(byte value : MAGIC) {
+            if(stream.read() != value) {
+                throw new IOException("The stream is not a replay");
+            }
+        }
+        
+        int version = (int) readVarint(stream);
+        if(version != VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        
+        // The values are read as longs and bounded before being narrowed, so that a corrupted
+        // value cannot wrap around into a valid one
+        long rows = readVarint(stream);
+        long columns = readVarint(stream);
+        if(rows <= 0 || rows > GameSettings.MAX_ROWS || columns <= 0 || columns > GameSettings.MAX_COLUMNS) {
+            throw new IOException("Invalid replay board of " + rows + " by " + columns);
+        }
+        
+        int size = (int)(rows * columns);
+        long mines = readVarint(stream);
+        if(mines < 0 || mines >= size) {
+            throw new IOException("Invalid replay mine count " + mines);
+        }
+        
+        long seed = readVarint(stream);
+        Replay replay = new Replay((int) rows, (int) columns, (int) mines, (seed >>> 1) ^ -(seed & 1), readVarint(stream));
+        
+        long count = readVarint(stream);
+        if(count < 0 || count > MAX_EVENTS) {
+            throw new IOException("Invalid replay event count " + count);
+        }
+        
+        for(int i = 0; i < count; ++i) {
+            long event = readVarint(stream);
+            int type = (int)(event & ((1 << TYPE_BITS) - 1));
+            long tile = event >>> TYPE_BITS;
+            long delta = readVarint(stream);
+            if(!isValidEvent(type, tile, size) || delta < 0) {
+                throw new IOException("Invalid replay event " + event);
+            }
+            replay.addEvent(type, (int) tile, delta);
+        }
+        
+        long status = readVarint(stream);
+        if(status < 0 || status >= BoardEngine.Status.values().length) {
+            throw new IOException("Invalid replay status " + status);
+        }
+        
+        long time = readVarint(stream);
+        long revealedCount = readVarint(stream);
+        long flagCount = readVarint(stream);
+        long endDelta = readVarint(stream);
+        if(time < 0 || time > GameTimerModel.MAX_VALUE || revealedCount < 0 || revealedCount > size || flagCount < 0 || flagCount > size || endDelta < 0) {
+            throw new IOException("Invalid replay result");
+        }
+        
+        replay.setResult(
+            BoardEngine.Status.values()[(int) status],
+            (int) time,
+            (int) revealedCount,
+            (int) flagCount,
+            endDelta
+        );
+        
+        return replay;
+    }
+    
+    /**
+     * Gets if the specified event can be played on a board of the specified size
+     * 
+     * @param type The type of the event
+     * @param tile The tile of the event, or the value held by the tile of the event
+     * @param size The number of tiles of the board
+     * 
+     * @return TRUE if the event can be played on the board, FALSE otherwise
+     */
+    public static boolean isValidEvent(int type, long tile, int size) {
+        switch(type) {
+        case Replay.CLEAR:
+            return tile == 0;
+        case Replay.OPTIONS:
+            return tile >= 0 && tile <= (Replay.OPTION_OPENING | Replay.OPTION_NO_GUESS);
+        default:
+            return type >= 0 && type < Replay.OPTIONS && tile >= 0 && tile < size;
+        }
+    }
+    
+    /**
+     * Writes a variable length integer
+     * 
+     * @param stream The stream
+     * @param value The value, treated as unsigned
+     * 
+     * @throws IOException If the value could not be written
+     */
+    public static void writeVarint(OutputStream stream, long value) throws IOException {
+        while((value & ~0x7FL) != 0) {
+            stream.write((int)((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        stream.write((int) value);
+    }
+    
+    /**
+     * Reads a variable length integer
+     * 
+     * @param stream The stream
+     * 
+     * @return The value, treated as unsigned
+     * 
+     * @throws IOException If the value could not be read
+     */
+    public static long readVarint(InputStream stream) throws IOException {
+        long value = 0;
+        for(int shift = 0; shift < 64; shift += 7) {
+            int read = stream.read();
+            if(read < 0) {
+                throw new EOFException("The replay ended unexpectedly");
+            }
+            
+            value |= (long)(read & 0x7F) << shift;
+            if((read & 0x80) == 0) {
+                return value;
+            }
+        }
+        
+        throw new IOException("Invalid variable length integer");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,189 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package replay;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import core.BoardEngine;
+import engine.utils.logging.Tracelog;
+
+/**
+ * The replay recorder records every game that is played as a replay.
+ * 
+ * Recording an event only appends it to the replay in memory, so that recording adds nothing noticeable to a
+ * move. Once a game ends its replay is handed to a background thread which encodes it and writes it into the
+ * saves directory, so that neither the encoding nor the file system are ever waited on by the user interface
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class ReplayRecorder {
+
+    /**
+     * The directory where the replays are written
+     */
+    public static final Path SAVES_DIRECTORY = Paths.get("assets", "saves");
+    
+    /**
+     * The name of the file of the replay of the last abandoned game
+     */
+    private static final String ABANDONED_FILE = "replay-abandoned" + ReplayCodec.EXTENSION;
+    
+    /**
+     * The writer of the replays. Its thread goes away when there is nothing left to write, and it is not a daemon
+     * so that a replay being written when the application exits is not truncated
+     */
+    private static final ExecutorService _writer = new ThreadPoolExecutor(0, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue(), runnable -> new Thread(runnable, "Replay Writer"));
+    
+    /**
+     * The replay of the game being played, or null if there is no game being recorded
+     */
+    private Replay _replay;
+    
+    /**
+     * The time of the last event that was recorded, in nanoseconds
+     */
+    private long _lastTime;
+    
+    /**
+     * Starts recording a new game, the game that was being recorded is discarded if it was not finished
+     * 
+     * @param rows The number of rows of the board
+     * @param columns The number of columns of the board
+     * @param mines The number of mines of the board
+     * @param seed The seed of the game
+     */
+    public void start(int rows, int columns, int mines, long seed) {
+        _replay = new Replay(rows, columns, mines, seed, System.currentTimeMillis());
+        _lastTime = System.nanoTime();
+    }
+    
+    /**
+     * Stops recording the game being recorded without writing its replay
+     */
+    public void discard() {
+        _replay = null;
+    }
+    
+    /**
+     * Gets if a game is being recorded
+     * 
+     * @return TRUE if a game is being recorded, FALSE otherwise
+     */
+    public boolean isRecording() {
+        return _replay != null;
+    }
+    
+    /**
+     * Records an event of the game being played
+     * 
+     * @param type The type of the event
+     * @param tile The tile of the event
+     */
+    public void record(int type, int tile) {
+        if(_replay != null) {
+            long time = System.nanoTime();
+            _replay.addEvent(type, tile, time - _lastTime);
+            _lastTime = time;
+        }
+    }
+    
+    /**
+     * Ends the game being recorded and writes its replay in the background, a game without any event is not written
+     * 
+     * @param status The status of the game
+     * @param time The time shown by the game timer, in seconds
+     * @param revealedCount The number of tiles revealed
+     * @param flagCount The number of flags
+     */
+    public void finish(BoardEngine.Status status, int time, int revealedCount, int flagCount) {
+        if(_replay == null) {
+            return;
+        }
+        
+        Replay replay = _replay;
+        _replay = null;
+        if(replay.getEventCount() == 0) {
+            return;
+        }
+        
+        replay.setResult(status, time, revealedCount, flagCount, System.nanoTime() - _lastTime);
+        
+        _writer.execute(() -> write(replay));
+    }
+    
+    /**
+     * Writes the specified replay into the saves directory, the replay of an abandoned game replacing the replay
+     * of the game abandoned before it so that only the last one is kept
+     * 
+     * @param replay The replay
+     */
+    private static void write(Replay replay) {
+        String name = String.format("replay-%s-%016x",
+            new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date(replay.getStartTime())),
+            replay.getSeed()
+        );
+        
+        try {
+            Files.createDirectories(SAVES_DIRECTORY);
+            
+            if(replay.getStatus() == BoardEngine.Status.RUNNING) {
+                Path temporary = SAVES_DIRECTORY.resolve(ABANDONED_FILE + ".tmp");
+                try(OutputStream stream = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+                    ReplayCodec.write(replay, stream);
+                }
+                Files.move(temporary, SAVES_DIRECTORY.resolve(ABANDONED_FILE), StandardCopyOption.REPLACE_EXISTING);
+                return;
+            }
+            
+            // Games started within the same millisecond with the same seed are told apart by a suffix
+            Path path = SAVES_DIRECTORY.resolve(name + ReplayCodec.EXTENSION);
+            for(int i = 1; Files.exists(path); ++i) {
+                path = SAVES_DIRECTORY.resolve(name + "-" + i + ReplayCodec.EXTENSION);
+            }
+            
+            try(OutputStream stream = new BufferedOutputStream(Files.newOutputStream(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))) {
+                ReplayCodec.write(replay, stream);
+            }
+        }
+        catch(IOException exception) {
+            Tracelog.log(Level.SEVERE, true, exception);
+        }
+    }
+}
\ No newline at end of file
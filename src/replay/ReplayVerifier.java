@@ -0,0 +1,256 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package replay;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import core.BoardEngine;
+import models.GameTimerModel;
+
+/**
+ * The replay verifier plays replays again through the rules of the board, without any user interface, and checks
+ * that the game ends the same way that it did when it was recorded. It is used to validate the time of a high
+ * score, and to run a corpus of replays against any change to the rules of the board.
+ * 
+ * A replay that backs a high score must also be a game won on the board generated from the seed of the game,
+ * so a replay where mines were placed or cleared by hand is rejected when verifying scores.
+ * 
+ * When run on its own, the verifier verifies every replay file found within the specified files and directories
+ * in parallel, and reports how many replays are verified per second.
+ * 
+ * Usage: ReplayVerifier [-threads=N] [-repeat=N] [-scores] [FILE | DIRECTORY]...
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class ReplayVerifier {
+
+    /**
+     * The number of seconds that the time of a recording may lag behind the time of its events, since the game
+     * timer is updated on the user interface thread a moment after every second elapses
+     */
+    private static final int TIME_TOLERANCE = 1;
+    
+    /**
+     * The engine that replays are played through, re-used between replays of the same dimensions
+     */
+    private BoardEngine _engine;
+    
+    /**
+     * Verifies the specified replay
+     * 
+     * @param replay The replay
+     * 
+     * @return The reason why the replay does not match its recording, or null if it does
+     */
+    public String verify(Replay replay) {
+        if(_engine == null || _engine.getRows() != replay.getRows() || _engine.getColumns() != replay.getColumns() || _engine.getMines() != replay.getMines()) {
+            _engine = new BoardEngine(replay.getRows(), replay.getColumns(), replay.getMines());
+        }
+        
+        _engine.newGame(replay.getSeed());
+        _engine.setFirstMoveOpening(false);
+        _engine.setNoGuess(false);
+        
+        // The game timer starts with the first reveal or flag of the player
+        long elapsed = -1;
+        for(int i = 0, count = replay.getEventCount(); i < count; ++i) {
+            int type = replay.getType(i);
+            int tile = replay.getTile(i);
+            
+            if(elapsed >= 0) {
+                elapsed += replay.getDelta(i);
+            }
+            else if(type == Replay.REVEAL || type == Replay.FLAG || type == Replay.MARK) {
+                elapsed = 0;
+            }
+            
+            if(!Replay.play(_engine, type, tile)) {
+                return "Unknown event type " + type;
+            }
+        }
+        
+        if(_engine.getStatus() != replay.getStatus()) {
+            return String.format("Ended as %s, recorded as %s", _engine.getStatus(), replay.getStatus());
+        }
+        if(_engine.getBoard().getRevealedCount() != replay.getRevealedCount()) {
+            return String.format("Ended with %d tiles revealed, recorded with %d", _engine.getBoard().getRevealedCount(), replay.getRevealedCount());
+        }
+        if(_engine.getBoard().getFlagCount() != replay.getFlagCount()) {
+            return String.format("Ended with %d flags, recorded with %d", _engine.getBoard().getFlagCount(), replay.getFlagCount());
+        }
+        
+        // The time is only known for games that are over, the timer being reset before an abandoned game is recorded.
+        // The timer shows one second as soon as it starts, and one more for every second that elapses
+        if(_engine.isGameOver() && elapsed >= 0) {
+            elapsed += replay.getEndDelta();
+            int time = (int)Math.min(GameTimerModel.MAX_VALUE, 1 + TimeUnit.NANOSECONDS.toSeconds(elapsed));
+            if(replay.getTime() > time || replay.getTime() < time - TIME_TOLERANCE) {
+                return String.format("Ended after %d seconds, recorded with %d seconds", time, replay.getTime());
+            }
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Verifies the specified replay as the replay of a high score
+     * 
+     * @param replay The replay
+     * 
+     * @return The reason why the replay does not match its recording or cannot back a high score, or null if it can
+     */
+    public String verifyScore(Replay replay) {
+        
+        // Placing or clearing mines by hand replaces the board that the first move generated from the seed
+        for(int i = 0, count = replay.getEventCount(); i < count; ++i) {
+            if(replay.getType(i) == Replay.MINE || replay.getType(i) == Replay.CLEAR) {
+                return "Mines were placed by hand";
+            }
+        }
+        
+        if(replay.getStatus() != BoardEngine.Status.WON) {
+            return String.format("Recorded as %s, a high score must be won", replay.getStatus());
+        }
+        
+        return verify(replay);
+    }
+    
+    /**
+     * Verifies the specified replay as the replay of a high score that was played with the specified seed
+     * 
+     * @param replay The replay
+     * @param seed The seed of the game of the high score
+     * 
+     * @return The reason why the replay does not match its recording or cannot back a high score, or null if it can
+     */
+    public String verifyScore(Replay replay, long seed) {
+        if(replay.getSeed() != seed) {
+            return String.format("Recorded with seed %d, the high score was played with seed %d", replay.getSeed(), seed);
+        }
+        
+        return verifyScore(replay);
+    }
+    
+    /**
+     * Main entry point into the replay verifier
+     * 
+     * @param args The arguments of the replay verifier
+     */
+    public static void main(String[] args) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        int repeat = 1;
+        boolean isScores = false;
+        List<Path> paths = new ArrayList();
+        
+        for(String arg : args) {
+            String value = arg.trim();
+            String name = value.toLowerCase(Locale.ROOT);
+            try {
+                if(name.startsWith("-threads=")) {
+                    threads = Integer.parseInt(value.substring("-threads=".length()));
+                }
+                else if(name.startsWith("-repeat=")) {
+                    repeat = Integer.parseInt(value.substring("-repeat=".length()));
+                }
+                else if(name.equals("-scores")) {
+                    isScores = true;
+                }
+                else if(name.startsWith("-")) {
+                    System.err.println("Unknown argument specified: " + value);
+                    return;
+                }
+                else {
+                    paths.add(Paths.get(value));
+                }
+            }
+            catch(IllegalArgumentException exception) {
+                System.err.println("Invalid argument specified: " + value);
+                return;
+            }
+        }
+        
+        if(paths.isEmpty()) {
+            paths.add(ReplayRecorder.SAVES_DIRECTORY);
+        }
+        
+        // Gather the replay files, in the same order from one run to the next
+        List<Path> files = new ArrayList();
+        for(Path path : paths) {
+            if(Files.isDirectory(path)) {
+                try(Stream<Path> stream = Files.walk(path)) {
+                    stream.filter(file -> file.getFileName().toString().endsWith(ReplayCodec.EXTENSION)).sorted().forEach(files::add);
+                }
+                catch(IOException exception) {
+                    System.err.println("Could not list the replays of " + path + ": " + exception.getMessage());
+                    return;
+                }
+            }
+            else {
+                files.add(path);
+            }
+        }
+        
+        // Repeating the replays gives a corpus large enough to measure the throughput
+        List<Path> corpus = new ArrayList();
+        for(int i = 0; i < repeat; ++i) {
+            corpus.addAll(files);
+        }
+        
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, threads));
+        boolean failed;
+        try {
+            long start = System.nanoTime();
+            VerificationStatistics statistics = pool.invoke(new VerificationTask(Collections.unmodifiableList(corpus), 0, corpus.size(), isScores));
+            double seconds = Math.max(1e-9, (System.nanoTime() - start) / 1e9);
+            
+            // A failing file fails once for every repetition, but is only reported once
+            statistics.getFailures().stream().distinct().forEach(failure -> System.out.println("FAILED " + failure));
+            
+            System.out.println(String.format(Locale.ROOT, "%d replays (%d files), %d threads", statistics.getReplays(), files.size(), threads));
+            System.out.println(String.format(Locale.ROOT, "%d verified, %d failed", statistics.getReplays() - statistics.getFailures().size(), statistics.getFailures().size()));
+            System.out.println(String.format(Locale.ROOT, "%.3f s, %.1f replays/s, %.1f events/s", seconds, statistics.getReplays() / seconds, statistics.getEvents() / seconds));
+            
+            failed = !statistics.getFailures().isEmpty();
+        }
+        finally {
+            pool.shutdown();
+        }
+        
+        if(failed) {
+            System.exit(1);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package replay;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The statistics of the verification of replays, which can be merged with the statistics gathered by other threads
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class VerificationStatistics {
+
+    /**
+     * The number of replays verified
+     */
+    private long _replays;
+    
+    /**
+     * The number of events played
+     */
+    private long _events;
+    
+    /**
+     * The failures of the replays that did not match their recording, or that could not be read
+     */
+    private final List<String> _failures = new ArrayList();
+    
+    /**
+     * Adds a replay that has been verified
+     * 
+     * @param events The number of events of the replay
+     * @param failure The reason why the replay did not match its recording, or null if it did
+     */
+    public void addReplay(int events, String failure) {
+        ++_replays;
+        _events += events;
+        if(failure != null) {
+            _failures.add(failure);
+        }
+    }
+    
+    /**
+     * Adds the specified statistics to these statistics
+     * 
+     * @param statistics The statistics to add
+     * 
+     * @return These statistics
+     */
+    public VerificationStatistics add(VerificationStatistics statistics) {
+        _replays += statistics._replays;
+        _events += statistics._events;
+        _failures.addAll(statistics._failures);
+        return this;
+    }
+    
+    /**
+     * Gets the number of replays verified
+     * 
+     * @return The number of replays verified
+     */
+    public long getReplays() {
+        return _replays;
+    }
+    
+    /**
+     * Gets the number of events played
+     * 
+     * @return The number of events played
+     */
+    public long getEvents() {
+        return _events;
+    }
+    
+    /**
+     * Gets the failures of the replays that did not match their recording
+     * 
+     * @return The failures, one entry per replay
+     */
+    public List<String> getFailures() {
+        return _failures;
+    }
+}
\ No newline at end of file
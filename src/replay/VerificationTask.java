@@ -0,0 +1,111 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package replay;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A task that verifies a range of replay files, splitting the range in halves until the range is small enough
+ * to be verified by a single thread
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+final class VerificationTask extends RecursiveTask<VerificationStatistics> {
+
+    /**
+     * The number of files under which a range of files is no longer split
+     */
+    private static final int THRESHOLD = 16;
+    
+    /**
+     * The replay files
+     */
+    private final List<Path> _files;
+    
+    /**
+     * The first file of the range, inclusive
+     */
+    private final int _start;
+    
+    /**
+     * The last file of the range, exclusive
+     */
+    private final int _end;
+    
+    /**
+     * Flag indicating if the replays are verified as the replays of high scores
+     */
+    private final boolean _isScores;
+    
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param files The replay files
+     * @param start The first file of the range, inclusive
+     * @param end The last file of the range, exclusive
+     * @param isScores TRUE if the replays are verified as the replays of high scores, FALSE otherwise
+     */
+    VerificationTask(List<Path> files, int start, int end, boolean isScores) {
+        _files = files;
+        _start = start;
+        _end = end;
+        _isScores = isScores;
+    }
+    
+    @Override protected VerificationStatistics compute() {
+        if(_end - _start > THRESHOLD) {
+            int middle = (_start + _end) >>> 1;
+            VerificationTask left = new VerificationTask(_files, _start, middle, _isScores);
+            left.fork();
+            VerificationStatistics statistics = new VerificationTask(_files, middle, _end, _isScores).compute();
+            return statistics.add(left.join());
+        }
+        
+        // The verifier is only used by this thread, and is re-used between the replays of the range
+        VerificationStatistics statistics = new VerificationStatistics();
+        ReplayVerifier verifier = new ReplayVerifier();
+        
+        for(int i = _start; i < _end; ++i) {
+            Path file = _files.get(i);
+            try(InputStream stream = new BufferedInputStream(Files.newInputStream(file))) {
+                Replay replay = ReplayCodec.read(stream);
+                String failure = _isScores ? verifier.verifyScore(replay) : verifier.verify(replay);
+                statistics.addReplay(replay.getEventCount(), failure == null ? null : file.getFileName() + ": " + failure);
+            }
+            catch(IOException exception) {
+                statistics.addReplay(0, file.getFileName() + ": " + exception.getMessage());
+            }
+        }
+        
+        return statistics;
+    }
+}
\ No newline at end of file
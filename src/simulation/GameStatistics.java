@@ -0,0 +1,167 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package simulation;
+
+/**
+ * The statistics of a set of games played by the simulator. Statistics of different sets of games can be
+ * combined together
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class GameStatistics {
+
+    /**
+     * The number of games played
+     */
+    private long _games;
+    
+    /**
+     * The number of games won
+     */
+    private long _wins;
+    
+    /**
+     * The number of games abandoned because a move did not change the board
+     */
+    private long _abandoned;
+    
+    /**
+     * The number of moves performed
+     */
+    private long _moves;
+    
+    /**
+     * The number of moves that were guesses
+     */
+    private long _guesses;
+    
+    /**
+     * The number of tiles revealed, including the tiles revealed by flood fills
+     */
+    private long _revealedTiles;
+    
+    /**
+     * Adds a game that has been played
+     * 
+     * @param won TRUE if the game was won, FALSE otherwise
+     * @param abandoned TRUE if the game was abandoned, FALSE otherwise
+     * @param moves The number of moves performed during the game
+     * @param guesses The number of moves that were guesses
+     * @param revealedTiles The number of tiles revealed once the game was over
+     */
+    public void addGame(boolean won, boolean abandoned, int moves, int guesses, int revealedTiles) {
+        ++_games;
+        if(won) {
+            ++_wins;
+        }
+        if(abandoned) {
+            ++_abandoned;
+        }
+        _moves += moves;
+        _guesses += guesses;
+        _revealedTiles += revealedTiles;
+    }
+    
+    /**
+     * Adds the specified statistics to these statistics
+     * 
+     * @param statistics The statistics to add
+     * 
+     * @return These statistics
+     */
+    public GameStatistics add(GameStatistics statistics) {
+        _games += statistics._games;
+        _wins += statistics._wins;
+        _abandoned += statistics._abandoned;
+        _moves += statistics._moves;
+        _guesses += statistics._guesses;
+        _revealedTiles += statistics._revealedTiles;
+        return this;
+    }
+    
+    /**
+     * Gets the number of games played
+     * 
+     * @return The number of games played
+     */
+    public long getGames() {
+        return _games;
+    }
+    
+    /**
+     * Gets the number of games won
+     * 
+     * @return The number of games won
+     */
+    public long getWins() {
+        return _wins;
+    }
+    
+    /**
+     * Gets the number of games abandoned
+     * 
+     * @return The number of games abandoned
+     */
+    public long getAbandoned() {
+        return _abandoned;
+    }
+    
+    /**
+     * Gets the ratio of games won
+     * 
+     * @return The ratio of games won, between 0 and 1
+     */
+    public double getWinRate() {
+        return _games == 0 ? 0 : (double)_wins / _games;
+    }
+    
+    /**
+     * Gets the average number of moves per game
+     * 
+     * @return The average number of moves per game
+     */
+    public double getMovesPerGame() {
+        return _games == 0 ? 0 : (double)_moves / _games;
+    }
+    
+    /**
+     * Gets the average number of guesses per game
+     * 
+     * @return The average number of guesses per game
+     */
+    public double getGuessesPerGame() {
+        return _games == 0 ? 0 : (double)_guesses / _games;
+    }
+    
+    /**
+     * Gets the average number of tiles revealed per game
+     * 
+     * @return The average number of tiles revealed per game
+     */
+    public double getRevealedTilesPerGame() {
+        return _games == 0 ? 0 : (double)_revealedTiles / _games;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package simulation;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import core.BoardEngine;
+import core.GameSettings;
+import core.MineSampler;
+import core.NoGuessGenerator;
+
+/**
+ * The generation report measures how long it takes to generate boards that can be solved without guessing,
+ * from the first move of the player until the board is ready, and reports the percentiles for every difficulty.
+ * 
+ * Usage: GenerationReport [-games=N] [-seed=N] [-difficulty=NAME]
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class GenerationReport {
+
+    /**
+     * The number of boards generated before measuring, so that the measures are not skewed by the warm up of the JVM
+     */
+    private static final int WARM_UP_GAMES = 200;
+    
+    /**
+     * Main entry point into the generation report
+     * 
+     * @param args The arguments of the generation report
+     */
+    public static void main(String[] args) {
+        int games = 1000;
+        long seed = System.nanoTime();
+        GameSettings[] difficulties = { GameSettings.BEGINNER, GameSettings.INTERMEDITE, GameSettings.EXPERT };
+        
+        for(String arg : args) {
+            String value = arg.trim();
+            String name = value.toLowerCase(Locale.ROOT);
+            try {
+                if(name.startsWith("-games=")) {
+                    games = Integer.parseInt(value.substring("-games=".length()));
+                }
+                else if(name.startsWith("-seed=")) {
+                    seed = Long.parseLong(value.substring("-seed=".length()));
+                }
+                else if(name.startsWith("-difficulty=")) {
+                    String difficulty = value.substring("-difficulty=".length());
+                    if(!difficulty.equalsIgnoreCase("all")) {
+                        difficulties = new GameSettings[] { Simulator.getDifficulty(difficulty) };
+                    }
+                }
+                else {
+                    System.err.println("Unknown argument specified: " + value);
+                    return;
+                }
+            }
+            catch(IllegalArgumentException exception) {
+                System.err.println("Invalid argument specified: " + value);
+                return;
+            }
+        }
+        
+        System.out.println(String.format(Locale.ROOT, "No guess generation, %d boards per difficulty, seed %d", games, seed));
+        System.out.println(String.format(Locale.ROOT, "%-14s %10s %10s %10s %10s %10s %12s %10s", "Difficulty", "Mean ms", "p50 ms", "p90 ms", "p99 ms", "Max ms", "Candidates", "Fallbacks"));
+        
+        for(GameSettings difficulty : difficulties) {
+            BoardEngine engine = new BoardEngine(difficulty.ROWS, difficulty.COLUMNS, difficulty.MINES);
+            engine.setNoGuess(true);
+            SplittableRandom random = new SplittableRandom(seed);
+            int size = difficulty.ROWS * difficulty.COLUMNS;
+            
+            long[] times = new long[games];
+            long candidates = 0;
+            int fallbacks = 0;
+            for(int game = -WARM_UP_GAMES; game < games; ++game) {
+                engine.newGame(MineSampler.deriveSeed(seed, game));
+                int index = random.nextInt(size);
+                
+                // The board is generated by the first move
+                long start = System.nanoTime();
+                engine.reveal(index);
+                long time = System.nanoTime() - start;
+                
+                if(game >= 0) {
+                    times[game] = time;
+                    candidates += engine.getGenerationAttempts();
+                    if(engine.getGenerationAttempts() >= NoGuessGenerator.MAX_ATTEMPTS) {
+                        ++fallbacks;
+                    }
+                }
+            }
+            
+            Arrays.sort(times);
+            System.out.println(String.format(Locale.ROOT, "%-14s %10.3f %10.3f %10.3f %10.3f %10.3f %12.1f %10d",
+                difficulty,
+                Arrays.stream(times).average().orElse(0) / 1e6,
+                getPercentile(times, 0.50) / 1e6,
+                getPercentile(times, 0.90) / 1e6,
+                getPercentile(times, 0.99) / 1e6,
+                getPercentile(times, 1.00) / 1e6,
+                (double)candidates / Math.max(1, games),
+                fallbacks
+            ));
+        }
+    }
+    
+    /**
+     * Gets the specified percentile of sorted measures, using the nearest rank
+     * 
+     * @param sorted The measures in ascending order
+     * @param percentile The percentile, between 0 and 1
+     * 
+     * @return The measure at the percentile, or 0 if there are no measures
+     */
+    static double getPercentile(long[] sorted, double percentile) {
+        if(sorted.length == 0) {
+            return 0;
+        }
+        
+        int rank = (int)Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
\ No newline at end of file
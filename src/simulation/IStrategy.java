@@ -0,0 +1,59 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package simulation;
+
+import java.util.SplittableRandom;
+
+import core.BoardEngine;
+
+/**
+ * A strategy used to play games of minesweeper without any display
+ * 
+ * A strategy instance is only ever used by a single thread, which allows a strategy to hold state between
+ * the moves of a game
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public interface IStrategy {
+
+    /**
+     * Raised when a new game is about to be played by this strategy
+     * 
+     * @param engine The board engine of the game
+     */
+    default void newGame(BoardEngine engine) {
+    }
+    
+    /**
+     * Performs the next move of the game. A move must change the board, otherwise the game is abandoned
+     * 
+     * @param engine The board engine of the game
+     * @param random The random generator of the game, used to make any choice that is left to chance
+     * 
+     * @return TRUE if the move was a guess, FALSE if the move was known to be safe
+     */
+    boolean move(BoardEngine engine, SplittableRandom random);
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package simulation;
+
+import java.util.SplittableRandom;
+
+import core.BoardEngine;
+import core.BoardSolver;
+import core.ProbabilityEngine;
+
+/**
+ * A strategy that reveals the tiles that the board solver knows to be safe, and that otherwise reveals
+ * the tile least likely to have a mine according to the probability engine
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class ProbabilityStrategy implements IStrategy {
+
+    /**
+     * The solver of the board being played
+     */
+    private BoardSolver _solver;
+    
+    /**
+     * The probability engine of the board being played
+     */
+    private ProbabilityEngine _probabilityEngine;
+    
+    /**
+     * The probability of every tile of the board having a mine
+     */
+    private double[] _probabilities;
+    
+    /**
+     * The engine that the solver listens to
+     */
+    private BoardEngine _engine;
+    
+    @Override public void newGame(BoardEngine engine) {
+        if(_engine != engine) {
+            if(_engine != null) {
+                _engine.removeListener(_solver);
+            }
+            _engine = engine;
+            _solver = new BoardSolver(engine);
+            _probabilityEngine = new ProbabilityEngine(engine, _solver);
+            _probabilities = new double[engine.getRows() * engine.getColumns()];
+        }
+    }
+    
+    @Override public boolean move(BoardEngine engine, SplittableRandom random) {
+        _solver.solve();
+        
+        int index = _solver.nextSafeTile();
+        if(index >= 0) {
+            engine.reveal(index);
+            return false;
+        }
+        
+        // Nothing is known to be safe, reveal one of the tiles least likely to have a mine
+        _probabilityEngine.compute(_probabilities);
+        int ties = 0;
+        for(int i = 0; i < _probabilities.length; ++i) {
+            if(!engine.isCovered(i) || engine.isFlagged(i) || Double.isNaN(_probabilities[i])) {
+                continue;
+            }
+            if(index < 0 || _probabilities[i] < _probabilities[index]) {
+                index = i;
+                ties = 1;
+            }
+            else if(_probabilities[i] == _probabilities[index] && random.nextInt(++ties) == 0) {
+                index = i;
+            }
+        }
+        
+        // A board that no layout can explain leaves nothing but a random guess
+        while(index < 0 || !engine.isCovered(index) || engine.isFlagged(index)) {
+            index = random.nextInt(_probabilities.length);
+        }
+        
+        engine.reveal(index);
+        return true;
+    }
+}
\ No newline at end of file
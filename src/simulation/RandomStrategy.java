@@ -0,0 +1,53 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package simulation;
+
+import java.util.SplittableRandom;
+
+import core.BoardEngine;
+
+/**
+ * A strategy that reveals a random tile that is covered and not flagged on every move. This is the baseline
+ * that other strategies are measured against
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class RandomStrategy implements IStrategy {
+
+    @Override public boolean move(BoardEngine engine, SplittableRandom random) {
+        int size = engine.getRows() * engine.getColumns();
+        
+        // Pick tiles at random until one can be revealed, there is always at least one such tile while
+        // the game is not over since this strategy never flags a tile
+        int index;
+        do {
+            index = random.nextInt(size);
+        } while(!engine.isCovered(index) || engine.isFlagged(index));
+        
+        engine.reveal(index);
+        return true;
+    }
+}
\ No newline at end of file
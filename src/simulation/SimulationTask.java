@@ -0,0 +1,139 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package simulation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+import core.BoardEngine;
+
+/**
+ * A task that plays a range of games, splitting the range in halves until the range is small enough
+ * to be played by a single thread
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+final class SimulationTask extends RecursiveTask<GameStatistics> {
+
+    /**
+     * The number of games under which a range of games is no longer split
+     */
+    private static final int THRESHOLD = 64;
+    
+    /**
+     * The simulator that owns this task
+     */
+    private final Simulator _simulator;
+    
+    /**
+     * The number of rows of the board
+     */
+    private final int _rows;
+    
+    /**
+     * The number of columns of the board
+     */
+    private final int _columns;
+    
+    /**
+     * The number of mines of the board
+     */
+    private final int _mines;
+    
+    /**
+     * The first game of the range, inclusive
+     */
+    private final long _start;
+    
+    /**
+     * The last game of the range, exclusive
+     */
+    private final long _end;
+    
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param simulator The simulator that owns this task
+     * @param rows The number of rows of the board
+     * @param columns The number of columns of the board
+     * @param mines The number of mines of the board
+     * @param start The first game of the range, inclusive
+     * @param end The last game of the range, exclusive
+     */
+    SimulationTask(Simulator simulator, int rows, int columns, int mines, long start, long end) {
+        _simulator = simulator;
+        _rows = rows;
+        _columns = columns;
+        _mines = mines;
+        _start = start;
+        _end = end;
+    }
+    
+    @Override protected GameStatistics compute() {
+        if(_end - _start > THRESHOLD) {
+            long middle = (_start + _end) >>> 1;
+            SimulationTask left = new SimulationTask(_simulator, _rows, _columns, _mines, _start, middle);
+            left.fork();
+            GameStatistics statistics = new SimulationTask(_simulator, _rows, _columns, _mines, middle, _end).compute();
+            return statistics.add(left.join());
+        }
+        
+        // The engine and the strategy are only used by this thread, and are re-used between the games of the range
+        GameStatistics statistics = new GameStatistics();
+        BoardEngine engine = new BoardEngine(_rows, _columns, _mines);
+        engine.setFirstMoveOpening(_simulator.isFirstMoveOpening());
+        IStrategy strategy = _simulator.getStrategyType().create();
+        
+        // A game cannot take more moves than there are tiles to reveal, flag and unflag
+        int maximumMoves = 3 * _rows * _columns;
+        
+        for(long game = _start; game < _end; ++game) {
+            long seed = _simulator.getGameSeed(game);
+            SplittableRandom random = new SplittableRandom(~seed);
+            engine.newGame(seed);
+            strategy.newGame(engine);
+            
+            int moves = 0;
+            int guesses = 0;
+            while(!engine.isGameOver() && moves < maximumMoves) {
+                ++moves;
+                if(strategy.move(engine, random)) {
+                    ++guesses;
+                }
+            }
+            
+            statistics.addGame(
+                engine.getStatus() == BoardEngine.Status.WON,
+                !engine.isGameOver(),
+                moves,
+                guesses,
+                engine.getBoard().getRevealedCount()
+            );
+        }
+        
+        return statistics;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,228 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package simulation;
+
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+import core.GameSettings;
+import core.MineSampler;
+
+/**
+ * The simulator plays a large number of games without any display, spreading the games over a fork-join
+ * pool, and reports the win rate and the moves of a strategy for every difficulty.
+ * 
+ * Every game is played on its own board generated from a seed derived from the seed of the simulator and
+ * the number of the game, so a simulation gives the same results regardless of the number of threads used.
+ * 
+ * Usage: Simulator [-games=N] [-threads=N] [-strategy=NAME] [-seed=N] [-difficulty=NAME] [-opening]
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class Simulator {
+
+    /**
+     * The pool of threads that play the games
+     */
+    private final ForkJoinPool _pool;
+    
+    /**
+     * The strategy used to play the games
+     */
+    private final StrategyType _strategyType;
+    
+    /**
+     * The seed from which the seed of every game is derived
+     */
+    private final long _seed;
+    
+    /**
+     * Flag indicating if the first move of a game always opens an empty area
+     */
+    private final boolean _isFirstMoveOpening;
+    
+    /**
+     * Constructs a new instance of this class type
+     *
+     * @param strategyType The strategy used to play the games
+     * @param threads The number of threads that play the games
+     * @param seed The seed from which the seed of every game is derived
+     * @param isFirstMoveOpening TRUE if the first move of a game always opens an empty area, FALSE otherwise
+     */
+    public Simulator(StrategyType strategyType, int threads, long seed, boolean isFirstMoveOpening) {
+        _pool = new ForkJoinPool(Math.max(1, threads));
+        _strategyType = strategyType;
+        _seed = seed;
+        _isFirstMoveOpening = isFirstMoveOpening;
+    }
+    
+    /**
+     * Gets the strategy used to play the games
+     * 
+     * @return The strategy used to play the games
+     */
+    public StrategyType getStrategyType() {
+        return _strategyType;
+    }
+    
+    /**
+     * Gets if the first move of a game always opens an empty area
+     * 
+     * @return TRUE if the first move of a game always opens an empty area, FALSE otherwise
+     */
+    public boolean isFirstMoveOpening() {
+        return _isFirstMoveOpening;
+    }
+    
+    /**
+     * Gets the seed of the board of the specified game
+     * 
+     * @param game The number of the game
+     * 
+     * @return The seed of the board of the game
+     */
+    public long getGameSeed(long game) {
+        return MineSampler.deriveSeed(_seed, game);
+    }
+    
+    /**
+     * Plays the specified number of games on boards of the specified settings
+     * 
+     * @param settings The settings of the boards
+     * @param games The number of games to play
+     * 
+     * @return The statistics of the games played
+     */
+    public GameStatistics simulate(GameSettings settings, long games) {
+        return _pool.invoke(new SimulationTask(this, settings.ROWS, settings.COLUMNS, settings.MINES, 0, games));
+    }
+    
+    /**
+     * Shuts down the threads of this simulator
+     */
+    public void shutdown() {
+        _pool.shutdown();
+    }
+    
+    /**
+     * Gets the difficulty with the specified name, where the first three letters of the name are enough
+     * 
+     * @param name The name of the difficulty
+     * 
+     * @return The difficulty with the specified name
+     * 
+     * @throws IllegalArgumentException If there is no difficulty with the specified name
+     */
+    static GameSettings getDifficulty(String name) {
+        for(GameSettings settings : new GameSettings[] { GameSettings.BEGINNER, GameSettings.INTERMEDITE, GameSettings.EXPERT }) {
+            if(name.length() >= 3 && settings.name().regionMatches(true, 0, name, 0, 3)) {
+                return settings;
+            }
+        }
+        
+        throw new IllegalArgumentException("Unknown difficulty specified: " + name);
+    }
+    
+    /**
+     * Main entry point into the simulator
+     * 
+     * @param args The arguments of the simulator
+     */
+    public static void main(String[] args) {
+        long games = 100000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        boolean isFirstMoveOpening = false;
+        StrategyType strategyType = StrategyType.RANDOM;
+        GameSettings[] difficulties = { GameSettings.BEGINNER, GameSettings.INTERMEDITE, GameSettings.EXPERT };
+        
+        for(String arg : args) {
+            String value = arg.trim();
+            String name = value.toLowerCase(Locale.ROOT);
+            try {
+                if(name.startsWith("-games=")) {
+                    games = Long.parseLong(value.substring("-games=".length()));
+                }
+                else if(name.startsWith("-threads=")) {
+                    threads = Integer.parseInt(value.substring("-threads=".length()));
+                }
+                else if(name.startsWith("-seed=")) {
+                    seed = Long.parseLong(value.substring("-seed=".length()));
+                }
+                else if(name.equals("-opening")) {
+                    isFirstMoveOpening = true;
+                }
+                else if(name.startsWith("-strategy=")) {
+                    strategyType = StrategyType.fromName(value.substring("-strategy=".length()));
+                    if(strategyType == null) {
+                        System.err.println("Unknown strategy specified: " + value);
+                        return;
+                    }
+                }
+                else if(name.startsWith("-difficulty=")) {
+                    String difficulty = value.substring("-difficulty=".length());
+                    if(!difficulty.equalsIgnoreCase("all")) {
+                        difficulties = new GameSettings[] { getDifficulty(difficulty) };
+                    }
+                }
+                else {
+                    System.err.println("Unknown argument specified: " + value);
+                    return;
+                }
+            }
+            catch(IllegalArgumentException exception) {
+                System.err.println("Invalid argument specified: " + value);
+                return;
+            }
+        }
+        
+        Simulator simulator = new Simulator(strategyType, threads, seed, isFirstMoveOpening);
+        System.out.println(String.format(Locale.ROOT, "Strategy %s, %d games per difficulty, %d threads, seed %d%s", strategyType, games, threads, seed, isFirstMoveOpening ? ", opening first move" : ""));
+        System.out.println(String.format(Locale.ROOT, "%-14s %12s %10s %9s %12s %12s %14s %10s", "Difficulty", "Games/s", "Win rate", "Wins", "Moves/game", "Guesses/game", "Revealed/game", "Abandoned"));
+        
+        try {
+            for(GameSettings difficulty : difficulties) {
+                long start = System.nanoTime();
+                GameStatistics statistics = simulator.simulate(difficulty, games);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                
+                System.out.println(String.format(Locale.ROOT, "%-14s %12.0f %9.3f%% %9d %12.2f %12.2f %14.2f %10d",
+                    difficulty,
+                    statistics.getGames() / seconds,
+                    statistics.getWinRate() * 100,
+                    statistics.getWins(),
+                    statistics.getMovesPerGame(),
+                    statistics.getGuessesPerGame(),
+                    statistics.getRevealedTilesPerGame(),
+                    statistics.getAbandoned()
+                ));
+            }
+        }
+        finally {
+            simulator.shutdown();
+        }
+    }
+}
\ No newline at end of file
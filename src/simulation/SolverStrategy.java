@@ -0,0 +1,79 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package simulation;
+
+import java.util.SplittableRandom;
+
+import core.BoardEngine;
+import core.BoardSolver;
+
+/**
+ * A strategy that reveals the tiles that the board solver knows to be safe, and that only guesses
+ * when the solver cannot find any such tile
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public final class SolverStrategy implements IStrategy {
+
+    /**
+     * The solver of the board being played
+     */
+    private BoardSolver _solver;
+    
+    /**
+     * The engine that the solver listens to
+     */
+    private BoardEngine _engine;
+    
+    @Override public void newGame(BoardEngine engine) {
+        if(_engine != engine) {
+            if(_engine != null) {
+                _engine.removeListener(_solver);
+            }
+            _engine = engine;
+            _solver = new BoardSolver(engine);
+        }
+    }
+    
+    @Override public boolean move(BoardEngine engine, SplittableRandom random) {
+        _solver.solve();
+        
+        int index = _solver.nextSafeTile();
+        if(index >= 0) {
+            engine.reveal(index);
+            return false;
+        }
+        
+        // Nothing is known to be safe, guess a random tile that is not known to have a mine
+        int size = engine.getRows() * engine.getColumns();
+        do {
+            index = random.nextInt(size);
+        } while(!engine.isCovered(index) || engine.isFlagged(index) || _solver.isMine(index));
+        
+        engine.reveal(index);
+        return true;
+    }
+}
\ No newline at end of file
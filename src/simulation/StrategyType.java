@@ -0,0 +1,91 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package simulation;
+
+import java.util.function.Supplier;
+
+/**
+ * The strategies that can be used by the simulator
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public enum StrategyType {
+
+    /**
+     * Reveals a random tile on every move
+     */
+    RANDOM(RandomStrategy::new),
+    
+    /**
+     * Reveals the tiles that the board solver knows to be safe, and guesses at random otherwise
+     */
+    SOLVER(SolverStrategy::new),
+    
+    /**
+     * Reveals the tiles that the board solver knows to be safe, and the tile least likely to have a mine otherwise
+     */
+    PROBABILITY(ProbabilityStrategy::new);
+    
+    /**
+     * The supplier of the instances of the strategy
+     */
+    private final Supplier<IStrategy> _supplier;
+    
+    /**
+     * Constructs a new instance of this enum type
+     *
+     * @param supplier The supplier of the instances of the strategy
+     */
+    StrategyType(Supplier<IStrategy> supplier) {
+        _supplier = supplier;
+    }
+    
+    /**
+     * Creates a new instance of the strategy, every thread of the simulator uses its own instances
+     * 
+     * @return A new instance of the strategy
+     */
+    public IStrategy create() {
+        return _supplier.get();
+    }
+    
+    /**
+     * Gets the strategy with the specified name, ignoring the case of the name
+     * 
+     * @param name The name of the strategy
+     * 
+     * @return The strategy with the specified name, or null if there is no such strategy
+     */
+    public static StrategyType fromName(String name) {
+        for(StrategyType strategyType : values()) {
+            if(strategyType.name().equalsIgnoreCase(name)) {
+                return strategyType;
+            }
+        }
+        
+        return null;
+    }
+}
\ No newline at end of file
@@ -82,8 +82,8 @@ public class BoardView extends PanelView {
             }
         }
         
-        // Link all the tile views together
-        getViewProperties().getEntity(BoardController.class).generateLogicalTileLinks();
+        // Initialize the board now that all the tile views have been added
+        getViewProperties().getEntity(BoardController.class).initializeBoard();
     }
 
     @Override public void initializeComponentBindings() {
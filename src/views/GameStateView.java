@@ -28,11 +28,11 @@ import java.awt.Dimension;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 
-import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.border.EmptyBorder;
 
 import controllers.GameStateController;
+import core.SpriteCache;
 import engine.communication.internal.signal.arguments.AbstractEventArgs;
 import engine.core.factories.AbstractFactory;
 import engine.core.mvc.view.PanelView;
@@ -94,7 +94,7 @@ public class GameStateView extends PanelView {
         if(event.getSource() instanceof GameStateModel) {
             // Get the model associated to the event received
             GameStateModel gameStateModel = (GameStateModel) event.getSource();
-            _gameStateButton.setIcon(new ImageIcon(gameStateModel.getEntity().getRenderableContent()));
+            _gameStateButton.setIcon(SpriteCache.instance().getIcon(gameStateModel.getGameState()));
             
             repaint();
         }
@@ -30,6 +30,7 @@ import java.awt.Component;
 import javax.swing.BoxLayout;
 import javax.swing.border.EmptyBorder;
 
+import application.MainApplication;
 import engine.api.IView;
 import engine.core.factories.AbstractSignalFactory;
 import engine.core.mvc.view.PanelView;
@@ -59,7 +60,14 @@ public class MainView extends PanelView {
 
     @Override public void initializeComponents() {
         add(AbstractSignalFactory.getFactory(ViewFactory.class).add(new StatusBarView(), true));
-        add(AbstractSignalFactory.getFactory(ViewFactory.class).add(new DebuggerBoardView(), true));
+        
+        // The debugger works with a view per tile, otherwise the whole board is painted by a single view
+        if(MainApplication.instance().isDebug()) {
+            add(AbstractSignalFactory.getFactory(ViewFactory.class).add(new DebuggerBoardView(), true));
+        }
+        else {
+            add(AbstractSignalFactory.getFactory(ViewFactory.class).add(new VirtualizedBoardView(), true));
+        }
     }
 
     @Override public void initializeComponentBindings() {
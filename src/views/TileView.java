@@ -26,25 +26,24 @@ package views;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.Graphics;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 
 import javax.swing.BorderFactory;
-import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.SwingUtilities;
 import javax.swing.border.Border;
 
 import controllers.BoardController;
+import core.SpriteCache;
 import engine.communication.internal.signal.ISignalReceiver;
 import engine.communication.internal.signal.arguments.AbstractEventArgs;
 import engine.communication.internal.signal.arguments.BooleanEventArgs;
 import engine.communication.internal.signal.arguments.ModelEventArgs;
-import engine.core.factories.AbstractFactory;
 import engine.core.factories.AbstractSignalFactory;
 import engine.core.mvc.view.PanelView;
 import game.core.factories.ControllerFactory;
-import game.core.factories.ModelFactory;
 import models.TileModel;
 
 /**
@@ -70,6 +69,18 @@ public class TileView extends PanelView {
      */
     public static final String EVENT_SHOW_NEIGHBORS = "EVENT_SHOW_NEIGHBORS";
     
+    /**
+     * The translucent colors shown over a tile for its probability of having a mine, indexed by the amount of red
+     * of the probability, so that painting the probabilities does not create any color
+     */
+    private static final Color[] HEATMAP_COLORS = new Color[256];
+    
+    static {
+        for(int red = 0; red < HEATMAP_COLORS.length; ++red) {
+            HEATMAP_COLORS[red] = new Color(red, 255 - red, 0, 128);
+        }
+    }
+    
     /**
      * The background color of this tile
      */
@@ -100,6 +111,11 @@ public class TileView extends PanelView {
      */
     private final JButton _tileButton = new JButton();
     
+    /**
+     * The probability of this tile having a mine that is shown over this tile, or NaN if none is shown
+     */
+    private double _probability = Double.NaN;
+    
     /**
      * Constructs a new instance of this class type
      */
@@ -109,7 +125,7 @@ public class TileView extends PanelView {
         getViewProperties().setEntity(controller);
 
         // Create a new tile model and listen in on it
-        controller.addTileModel(AbstractFactory.getFactory(ModelFactory.class).add(new TileModel(this), false));
+        controller.addTileModel(this);
 
         // Set the rest of the layout data for this page
         setLayout(new BorderLayout());
@@ -247,6 +263,28 @@ public class TileView extends PanelView {
         });        
     }
     
+    @Override public void paint(Graphics graphics) {
+        super.paint(graphics);
+        
+        // The probability is shown over the button of the tile
+        if(!Double.isNaN(_probability)) {
+            graphics.setColor(getHeatmapColor(_probability));
+            graphics.fillRect(0, 0, getWidth(), getHeight());
+        }
+    }
+    
+    /**
+     * Gets the color shown over a tile for the specified probability of the tile having a mine, going from
+     * green for a safe tile to red for a mine
+     * 
+     * @param probability The probability of the tile having a mine
+     * 
+     * @return The translucent color of the probability
+     */
+    public static Color getHeatmapColor(double probability) {
+        return HEATMAP_COLORS[(int)Math.round(255 * Math.max(0, Math.min(1, probability)))];
+    }
+    
     @Override protected RenderMethod getRenderMethod() {
         return RenderMethod.PARENT;
     }
@@ -261,6 +299,7 @@ public class TileView extends PanelView {
             
             // Set the visibility state of the button overlayed on this tile view
             _tileButton.setVisible(tileModel.getButtonStateEntity().isEnabled());
+            _probability = tileModel.getProbability();
             
             if(tileModel.getIsHighlighted()) {
                 this.setBackground(HIGHLIGHTED_COLOR);
@@ -271,7 +310,7 @@ public class TileView extends PanelView {
                 this.setBackground(DEFAULT_BACKGROUND_COLOR);
 
                 if(_tileButton.isVisible()) {
-                    _tileButton.setIcon(new ImageIcon(tileModel.getButtonStateEntity().getRenderableContent()));    
+                    _tileButton.setIcon(SpriteCache.instance().getIcon(tileModel.getButtonStateEntity().getButtonState()));    
                 }
                 else {
                     addRenderableContent(tileModel.getTileStateEntity());    
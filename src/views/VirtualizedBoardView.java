@@ -0,0 +1,344 @@
+/**
+ * Daniel Ricci <thedanny09@gmail.com>
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software,
+ * and to permit persons to whom the Software is furnished to do so, subject
+ * to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+
+package views;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Image;
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+import javax.swing.BorderFactory;
+import javax.swing.SwingUtilities;
+
+import controllers.BoardController;
+import engine.communication.internal.signal.ISignalReceiver;
+import engine.communication.internal.signal.arguments.AbstractEventArgs;
+import engine.communication.internal.signal.arguments.ModelEventArgs;
+import engine.core.factories.AbstractSignalFactory;
+import engine.core.mvc.view.PanelView;
+import game.core.factories.ControllerFactory;
+import models.TileModel;
+import models.TilesUpdatedEventArgs;
+
+/**
+ * The virtualized board view paints the whole board within a single component.
+ * 
+ * Unlike the board view, no view or button is created per tile. Mouse coordinates are mapped to the index of
+ * the tile underneath them, and only the tiles that intersect the clip rectangle are painted, so the number of
+ * components stays the same and the cost of the layout does not grow with the size of the board
+ * 
+ * @author Daniel Ricci {@literal <thedanny09@gmail.com>}
+ *
+ */
+public class VirtualizedBoardView extends PanelView {
+
+    /**
+     * The size in pixels of a tile
+     */
+    private static final int TILE_SIZE = 16;
+    
+    /**
+     * The background color of a tile
+     */
+    private static final Color DEFAULT_BACKGROUND_COLOR = new Color(204, 204, 204);
+
+    /**
+     * The color of the lines between the tiles
+     */
+    private static final Color GRID_COLOR = new Color(146, 146, 146);
+
+    /**
+     * The color used when a tile is highlighted
+     */
+    private static final Color HIGHLIGHTED_COLOR = Color.BLUE;
+
+    /**
+     * The index of the tile that is being pressed, or -1 if no tile is being pressed
+     */
+    private int _pressedIndex = -1;
+    
+    /**
+     * Constructs a new instance of this class type
+     */
+    public VirtualizedBoardView() {
+        // Set the controller associated to this view
+        getViewProperties().setEntity(
+            AbstractSignalFactory.getFactory(ControllerFactory.class).add(new BoardController(), true)
+        );
+
+        setBorder(BorderFactory.createLoweredSoftBevelBorder());
+    }
+
+    @Override public void initializeComponents() {
+        
+        // Create the tile models of the board, this view is the single listener of every tile model
+        BoardController controller = getViewProperties().getEntity(BoardController.class);
+        controller.addTileModels(this);
+
+        Insets insets = getInsets();
+        setPreferredSize(new Dimension(
+            BoardController.GAME_SETTINGS.COLUMNS * TILE_SIZE + insets.left + insets.right, 
+            BoardController.GAME_SETTINGS.ROWS * TILE_SIZE + insets.top + insets.bottom
+        ));
+        
+        // Initialize the board now that all the tile models have been added
+        controller.initializeBoard();
+    }
+
+    @Override public void initializeComponentBindings() {
+        addMouseListener(new MouseAdapter() {
+
+            /**
+             * Flag indicating left mouse button is held down
+             */
+            boolean isLeftButtonHeld = false;
+            
+            /**
+             * Flag indicating right mouse button is held down
+             */
+            boolean isRightButtonHeld = false;
+            
+            @Override public void mousePressed(MouseEvent mouseEvent) {
+                TileModel tileModel = getTileModel(mouseEvent);
+                if(tileModel == null) {
+                    return;
+                }
+                
+                if(SwingUtilities.isLeftMouseButton(mouseEvent)) {
+                    isLeftButtonHeld = true;
+                }
+                if(SwingUtilities.isRightMouseButton(mouseEvent)) {
+                    isRightButtonHeld = true;
+                }
+                
+                // A covered tile acts as a button, it is shown as pressed until the mouse is released
+                if(tileModel.getButtonStateEntity().isEnabled() && (SwingUtilities.isLeftMouseButton(mouseEvent) || SwingUtilities.isRightMouseButton(mouseEvent))) {
+                    setPressedIndex(SwingUtilities.isLeftMouseButton(mouseEvent) ? tileModel.getIndex() : -1);
+                    getViewProperties().getEntity(BoardController.class).buttonSelectedEvent(tileModel, false);
+                }
+            }
+            
+            @Override public void mouseReleased(MouseEvent mouseEvent) {
+                BoardController controller = getViewProperties().getEntity(BoardController.class);
+                
+                // The release goes to the tile that was pressed, the same way that a button receives
+                // the release of a press that started on it
+                int pressedIndex = _pressedIndex;
+                setPressedIndex(-1);
+                
+                TileModel tileModel = getTileModel(mouseEvent);
+                if(tileModel != null && !tileModel.getButtonStateEntity().isEnabled()) {
+                    if(isLeftButtonHeld && isRightButtonHeld) {
+                        controller.performChord(tileModel);
+                    }
+                    else if(SwingUtilities.isMiddleMouseButton(mouseEvent)) {
+                        // Attempt to perform a chord on this tile 
+                        controller.performChord(tileModel);
+                    }
+                }
+                
+                if(SwingUtilities.isLeftMouseButton(mouseEvent)) {
+                    isLeftButtonHeld = false;
+                    if(pressedIndex != -1) {
+                        // Call the controller to notify that the button has been hidden
+                        controller.buttonSelectedEvent(controller.getTileModel(pressedIndex), true);
+                    }
+                }
+                else if(SwingUtilities.isRightMouseButton(mouseEvent)) {
+                    isRightButtonHeld = false;
+                    if(tileModel != null && tileModel.getButtonStateEntity().isEnabled()) {
+                        // Call the controller to notify that the button tile state is attempting to be changed
+                        controller.buttonStateChangeEvent(tileModel);
+                    }
+                }
+            }
+        });
+    }
+    
+    @Override public void registerSignalListeners() {
+        addSignalListener(TilesUpdatedEventArgs.EVENT_TILES_UPDATED, new ISignalReceiver<TilesUpdatedEventArgs>() {
+            @Override public void signalReceived(TilesUpdatedEventArgs event) {
+                
+                // Repaint the region that holds every tile of the batch at once
+                int columns = BoardController.GAME_SETTINGS.COLUMNS;
+                int rowStart = Integer.MAX_VALUE;
+                int rowEnd = -1;
+                int columnStart = Integer.MAX_VALUE;
+                int columnEnd = -1;
+                for(int i = 0, count = event.getCount(); i < count; ++i) {
+                    int row = event.getIndex(i) / columns;
+                    int column = event.getIndex(i) - row * columns;
+                    rowStart = Math.min(rowStart, row);
+                    rowEnd = Math.max(rowEnd, row);
+                    columnStart = Math.min(columnStart, column);
+                    columnEnd = Math.max(columnEnd, column);
+                }
+                
+                if(rowEnd != -1) {
+                    Insets insets = getInsets();
+                    repaint(
+                        insets.left + columnStart * TILE_SIZE, 
+                        insets.top + rowStart * TILE_SIZE, 
+                        (columnEnd - columnStart + 1) * TILE_SIZE, 
+                        (rowEnd - rowStart + 1) * TILE_SIZE
+                    );
+                }
+            }
+        });
+    }
+    
+    /**
+     * Gets the tile model underneath the specified mouse event
+     * 
+     * @param mouseEvent The mouse event
+     * 
+     * @return The tile model underneath the mouse event, or null if the mouse event is not over a tile
+     */
+    private TileModel getTileModel(MouseEvent mouseEvent) {
+        Insets insets = getInsets();
+        int x = mouseEvent.getX() - insets.left;
+        int y = mouseEvent.getY() - insets.top;
+        if(x < 0 || y < 0) {
+            return null;
+        }
+        
+        int row = y / TILE_SIZE;
+        int column = x / TILE_SIZE;
+        if(row >= BoardController.GAME_SETTINGS.ROWS || column >= BoardController.GAME_SETTINGS.COLUMNS) {
+            return null;
+        }
+        
+        return getViewProperties().getEntity(BoardController.class).getTileModel(row * BoardController.GAME_SETTINGS.COLUMNS + column);
+    }
+    
+    /**
+     * Sets the tile that is being pressed, repainting the tiles whose pressed state has changed
+     * 
+     * @param index The index of the tile being pressed, or -1 if no tile is being pressed
+     */
+    private void setPressedIndex(int index) {
+        if(_pressedIndex != index) {
+            repaintTile(_pressedIndex);
+            _pressedIndex = index;
+            repaintTile(_pressedIndex);
+        }
+    }
+    
+    /**
+     * Repaints the area of the specified tile
+     * 
+     * @param index The index of the tile, nothing is repainted if the index is -1
+     */
+    private void repaintTile(int index) {
+        if(index != -1) {
+            Insets insets = getInsets();
+            int columns = BoardController.GAME_SETTINGS.COLUMNS;
+            repaint(insets.left + (index % columns) * TILE_SIZE, insets.top + (index / columns) * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+        }
+    }
+    
+    @Override protected void paintComponent(Graphics graphics) {
+        super.paintComponent(graphics);
+        
+        BoardController controller = getViewProperties().getEntity(BoardController.class);
+        Insets insets = getInsets();
+        int rows = BoardController.GAME_SETTINGS.ROWS;
+        int columns = BoardController.GAME_SETTINGS.COLUMNS;
+        
+        // Only go through the tiles that intersect the clip rectangle
+        Rectangle clip = graphics.getClipBounds();
+        if(clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        int rowStart = Math.max(0, (clip.y - insets.top) / TILE_SIZE);
+        int rowEnd = Math.min(rows - 1, (clip.y + clip.height - 1 - insets.top) / TILE_SIZE);
+        int columnStart = Math.max(0, (clip.x - insets.left) / TILE_SIZE);
+        int columnEnd = Math.min(columns - 1, (clip.x + clip.width - 1 - insets.left) / TILE_SIZE);
+        
+        for(int row = rowStart; row <= rowEnd; ++row) {
+            for(int column = columnStart; column <= columnEnd; ++column) {
+                int index = row * columns + column;
+                paintTile(graphics, controller.getTileModel(index), index, insets.left + column * TILE_SIZE, insets.top + row * TILE_SIZE);
+            }
+        }
+    }
+    
+    /**
+     * Paints a single tile
+     * 
+     * @param graphics The graphics to paint with
+     * @param tileModel The tile model of the tile
+     * @param index The index of the tile
+     * @param x The x coordinate of the top left corner of the tile
+     * @param y The y coordinate of the top left corner of the tile
+     */
+    private void paintTile(Graphics graphics, TileModel tileModel, int index, int x, int y) {
+        
+        if(tileModel.getIsHighlighted()) {
+            graphics.setColor(HIGHLIGHTED_COLOR);
+            graphics.fillRect(x, y, TILE_SIZE, TILE_SIZE);
+        }
+        else if(tileModel.getButtonStateEntity().isEnabled() && index != _pressedIndex) {
+            graphics.drawImage(tileModel.getButtonStateEntity().getRenderableContent(), x, y, TILE_SIZE, TILE_SIZE, null);
+            
+            // The probability is shown over the button of the tile
+            if(!Double.isNaN(tileModel.getProbability())) {
+                graphics.setColor(TileView.getHeatmapColor(tileModel.getProbability()));
+                graphics.fillRect(x, y, TILE_SIZE, TILE_SIZE);
+            }
+            return;
+        }
+        else {
+            graphics.setColor(DEFAULT_BACKGROUND_COLOR);
+            graphics.fillRect(x, y, TILE_SIZE, TILE_SIZE);
+            
+            // A pressed tile is shown as an empty uncovered tile
+            if(!tileModel.getButtonStateEntity().isEnabled()) {
+                Image image = tileModel.getTileStateEntity().getRenderableContent();
+                if(image != null) {
+                    graphics.drawImage(image, x, y, TILE_SIZE, TILE_SIZE, null);
+                }
+            }
+        }
+
+        // Draw the lines on the top and on the left of the tile
+        graphics.setColor(GRID_COLOR);
+        graphics.drawLine(x, y, x + TILE_SIZE - 1, y);
+        graphics.drawLine(x, y, x, y + TILE_SIZE - 1);
+    }
+    
+    @Override public void update(AbstractEventArgs event) {
+        super.update(event);
+        
+        // Only the area of the tile that has changed is repainted
+        if(event instanceof ModelEventArgs && event.getSource() instanceof TileModel) {
+            repaintTile(((TileModel) event.getSource()).getIndex());
+        }
+    }
+}
\ No newline at end of file